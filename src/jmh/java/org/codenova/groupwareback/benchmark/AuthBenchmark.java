@@ -0,0 +1,64 @@
+package org.codenova.groupwareback.benchmark;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.codenova.groupwareback.interceptor.AuthInterceptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// AuthInterceptor 토큰 검증 비용 : 요청마다 검증기 생성 vs 검증기 재사용 vs 검증 결과 캐시
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthBenchmark {
+
+    private static final String SECRET = "benchmark-secret";
+
+    private String token;
+    private JWTVerifier verifier;
+    private AuthInterceptor interceptor;
+
+    @Setup
+    public void setup() {
+        token = JWT.create()
+                .withIssuer("groupware")
+                .withSubject("g-1")
+                .sign(Algorithm.HMAC256(SECRET));
+        verifier = JWT.require(Algorithm.HMAC256(SECRET)).withIssuer("groupware").build();
+        interceptor = new AuthInterceptor(SECRET, 10_000, Duration.ofMinutes(10), null);
+    }
+
+    // 기존 방식 : 요청마다 Algorithm / JWTVerifier 생성 후 검증
+    @Benchmark
+    public String verifierPerRequest() {
+        return JWT.require(Algorithm.HMAC256(SECRET)).withIssuer("groupware").build()
+                .verify(token).getSubject();
+    }
+
+    // 검증기 재사용
+    @Benchmark
+    public String sharedVerifier() {
+        return verifier.verify(token).getSubject();
+    }
+
+    // 검증 결과 캐시 (같은 토큰으로 반복 요청)
+    @Benchmark
+    public String cachedToken() {
+        return interceptor.resolveSubject(token);
+    }
+}
@@ -0,0 +1,46 @@
+package org.codenova.groupwareback.benchmark;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// BCrypt cost 별 암호화 / 검증 소요 시간 (password.bcrypt.cost 결정용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BCryptBenchmark {
+
+    @Param({"4", "8", "10", "12"})
+    private int cost;
+
+    private String hashed;
+
+    @Setup
+    public void setup() {
+        hashed = BCrypt.hashpw("0000", BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public String hash() {
+        return BCrypt.hashpw("0000", BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public boolean check() {
+        return BCrypt.checkpw("0000", hashed);
+    }
+}
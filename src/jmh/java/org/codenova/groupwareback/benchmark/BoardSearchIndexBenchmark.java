@@ -0,0 +1,95 @@
+package org.codenova.groupwareback.benchmark;
+
+import org.codenova.groupwareback.service.BoardSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 게시판 검색 색인 : 게시글 수별 전체 색인 생성 시간 / 검색 시간 (생성 중 할당량은 -prof gc 로 확인)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BoardSearchIndexBenchmark {
+
+    private static final String[] WORDS = {"회의", "예약", "공지", "휴가", "출장", "보고서", "일정", "점심", "교육", "안내",
+            "프로젝트", "마감", "검토", "요청", "결재", "부서", "회식", "채용", "인사", "평가"};
+
+    // 색인할 게시글 (제목 4단어, 본문 40단어, 같은 seed 로 매번 같은 내용)
+    @State(Scope.Benchmark)
+    public static class Posts {
+
+        @Param({"100000", "300000"})
+        int posts;
+
+        String[] titles;
+        String[] contents;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            titles = new String[posts];
+            contents = new String[posts];
+            for (int i = 0; i < posts; i++) {
+                titles[i] = sentence(random, 4);
+                contents[i] = sentence(random, 40);
+            }
+        }
+    }
+
+    // 미리 만들어 둔 색인 (검색 측정용)
+    @State(Scope.Benchmark)
+    public static class Index {
+        BoardSearchIndex index;
+
+        @Setup
+        public void setup(Posts posts) {
+            index = index(posts);
+        }
+    }
+
+    // 서버 시작 / rebuild 시 전체 색인 생성
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public BoardSearchIndex build(Posts posts) {
+        return index(posts);
+    }
+
+    // 자주 나오는 단어 두 개로 첫 페이지 검색
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public List<Long> search(Index index) {
+        return index.index.search("회의 예약", 0, 10);
+    }
+
+    private static BoardSearchIndex index(Posts posts) {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        for (int i = 0; i < posts.posts; i++) {
+            index.add(i + 1, posts.titles[i], posts.contents[i]);
+        }
+        return index;
+    }
+
+    private static String sentence(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]).append(i % 5 == 4 ? "입니다. " : " ");
+        }
+        return builder.toString();
+    }
+}
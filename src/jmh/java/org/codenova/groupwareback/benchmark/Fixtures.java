@@ -0,0 +1,75 @@
+package org.codenova.groupwareback.benchmark;
+
+import org.codenova.groupwareback.entity.Board;
+import org.codenova.groupwareback.entity.Department;
+import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.entity.Note;
+import org.codenova.groupwareback.entity.NoteStatus;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 엔티티 그래프
+final class Fixtures {
+
+    private static final String PASSWORD = BCrypt.hashpw("0000", BCrypt.gensalt(4));
+
+    private Fixtures() {
+    }
+
+    static Employee employee(int number) {
+        return Employee.builder()
+                .id("g-" + number)
+                .password(PASSWORD)
+                .name("사원" + number)
+                .email("employee" + number + "@codenova.org")
+                .hireDate(LocalDate.of(2024, 3, 1))
+                .department(Department.builder().id(number % 20).name("개발" + (number % 20) + "팀").build())
+                .position("사원")
+                .active("Y")
+                .build();
+    }
+
+    // 받은 쪽지함 한 페이지 (NoteStatus -> Note -> Employee -> Department)
+    static List<NoteStatus> inbox(int size) {
+        List<NoteStatus> list = new ArrayList<>();
+        Employee receiver = employee(0);
+        for (int i = 1; i <= size; i++) {
+            Note note = Note.builder()
+                    .id((long) i)
+                    .sender(employee(i))
+                    .content("회의 일정 변경 안내드립니다. 내일 오후 3시 3층 회의실입니다.")
+                    .sendAt(LocalDateTime.of(2025, 5, 1, 9, 0).plusMinutes(i))
+                    .isDelete(false)
+                    .build();
+            list.add(NoteStatus.builder()
+                    .id((long) i)
+                    .receiver(receiver)
+                    .note(note)
+                    .isRead(i % 2 == 0)
+                    .readAt(i % 2 == 0 ? LocalDateTime.of(2025, 5, 2, 9, 0) : null)
+                    .isDelete(false)
+                    .build());
+        }
+        return list;
+    }
+
+    // 게시판 한 페이지 (Board -> Employee -> Department)
+    static List<Board> boards(int size) {
+        List<Board> list = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            list.add(Board.builder()
+                    .id((long) i)
+                    .writer(employee(i))
+                    .title("공지사항 " + i)
+                    .content("이번 주 금요일은 사내 교육이 있습니다. ".repeat(20))
+                    .viewCount(i * 3)
+                    .wroteAt(LocalDateTime.of(2025, 5, 1, 9, 0).plusHours(i))
+                    .build());
+        }
+        return list;
+    }
+}
@@ -0,0 +1,56 @@
+package org.codenova.groupwareback.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codenova.groupwareback.entity.Board;
+import org.codenova.groupwareback.entity.NoteStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 중첩 엔티티 그래프 JSON 직렬화 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<NoteStatus> inbox;
+    private List<Board> boards;
+
+    @Setup
+    public void setup() {
+        // 스프링 부트와 같은 설정(JavaTimeModule 등)의 ObjectMapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        inbox = Fixtures.inbox(size);
+        boards = Fixtures.boards(size);
+    }
+
+    @Benchmark
+    public byte[] noteStatusGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(inbox);
+    }
+
+    @Benchmark
+    public byte[] boardGraph() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(boards);
+    }
+}
@@ -0,0 +1,70 @@
+package org.codenova.groupwareback.benchmark;
+
+import org.codenova.groupwareback.entity.NoteStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.util.MimeType;
+
+import java.util.concurrent.TimeUnit;
+
+// 브로커가 구독자에게 보내는 STOMP MESSAGE 프레임 생성 비용 (본문 변환 + 프레임 인코딩)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StompMessageBenchmark {
+
+    private final StompEncoder encoder = new StompEncoder();
+    private final StringMessageConverter stringConverter = new StringMessageConverter();
+    private MappingJackson2MessageConverter jsonConverter;
+    private NoteStatus noteStatus;
+
+    @Setup
+    public void setup() {
+        jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setObjectMapper(Jackson2ObjectMapperBuilder.json().build());
+        noteStatus = Fixtures.inbox(1).get(0);
+    }
+
+    // 기존 알림처럼 문자열 본문
+    @Benchmark
+    public byte[] textFrame() {
+        return encode(stringConverter.toMessage("새로운 쪽지를 수신하였습니다.", null));
+    }
+
+    // 엔티티 그래프 JSON 본문
+    @Benchmark
+    public byte[] jsonFrame() {
+        return encode(jsonConverter.toMessage(noteStatus, null));
+    }
+
+    private byte[] encode(Message<?> converted) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/private/g-1");
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("1");
+        MimeType contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        if (contentType != null) {
+            accessor.setContentType(contentType);
+        }
+        return encoder.encode(accessor.getMessageHeaders(), (byte[]) converted.getPayload());
+    }
+}
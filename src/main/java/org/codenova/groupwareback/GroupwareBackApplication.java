@@ -2,8 +2,10 @@ package org.codenova.groupwareback;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // @Scheduled 작업 활성화
 public class GroupwareBackApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,40 @@
+package org.codenova.groupwareback.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// 브로커 채널(brokerChannel)로 들어오는 메시지, 즉 서버에서 convertAndSend 한 메시지를 다른 서버에도 전달
+@Component
+@RequiredArgsConstructor
+public class ClusterRelayInterceptor implements ChannelInterceptor {
+
+    private final MessageRelay messageRelay;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+
+        // 일반 메시지가 아니거나, 다른 서버에서 전달받은 메시지면 그대로 진행
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(RelayedMessage.ORIGIN_HEADER)) {
+            return message;
+        }
+
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination != null && message.getPayload() instanceof byte[] payload) {
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            messageRelay.publish(new RelayedMessage(
+                    messageRelay.getNodeId(),
+                    destination,
+                    contentType == null ? null : contentType.toString(),
+                    payload));
+        }
+        return message;
+    }
+}
@@ -0,0 +1,68 @@
+package org.codenova.groupwareback.cluster;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.codenova.groupwareback.service.ChatRingBuffer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+
+// 다른 서버에서 전달받은 메시지를 이 서버의 구독자에게 전송
+// 부서 채팅은 이 서버의 최근 채팅 보관소에도 추가 (다른 서버에 등록된 채팅도 입장 시 바로 보이도록)
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterRelayReceiver {
+
+    private static final String CHAT_PREFIX = "/chat-department/";
+
+    private final MessageRelay messageRelay;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRingBuffer chatRingBuffer;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    public void init() {
+        messageRelay.subscribe(this::deliver);
+    }
+
+    private void deliver(RelayedMessage relayed) {
+        if (relayed.getDestination().startsWith(CHAT_PREFIX)) {
+            appendChat(relayed);
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.getDestination());
+        if (relayed.getContentType() != null) {
+            accessor.setContentType(MimeTypeUtils.parseMimeType(relayed.getContentType()));
+        }
+        // 다시 다른 서버로 전달되지 않도록 표시
+        accessor.setHeader(RelayedMessage.ORIGIN_HEADER, relayed.getOrigin());
+        accessor.setLeaveMutable(true);
+
+        Message<byte[]> message = MessageBuilder.createMessage(relayed.getPayload(), accessor.getMessageHeaders());
+        messagingTemplate.send(relayed.getDestination(), message);
+    }
+
+    // 전달받은 채팅 JSON 을 최근 채팅 보관소에 추가 (변환에 실패해도 구독자 전송은 계속)
+    // 채팅 ID / 부서 ID 가 없는 메시지(채팅 목록이 아닌 알림 등)는 보관하지 않음
+    private void appendChat(RelayedMessage relayed) {
+        try {
+            ChatMessage chat = objectMapper.readValue(relayed.getPayload(), ChatMessage.class);
+            if (chat.getId() != null && chat.getDepartmentId() != null) {
+                chatRingBuffer.append(chat);
+            }
+        } catch (IOException e) {
+            log.warn("전달받은 채팅 변환 실패 : {}", relayed.getDestination(), e);
+        }
+    }
+}
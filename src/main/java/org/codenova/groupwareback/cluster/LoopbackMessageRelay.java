@@ -0,0 +1,51 @@
+package org.codenova.groupwareback.cluster;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+// 같은 JVM 안의 서버(애플리케이션 컨텍스트)끼리 메시지를 전달하는 기본 구현
+// 서버가 하나뿐이면 전달할 대상이 없으므로 기존 단일 서버 동작과 같음
+@Component
+@ConditionalOnProperty(name = "cluster.relay.mode", havingValue = "loopback", matchIfMissing = true)
+public class LoopbackMessageRelay implements MessageRelay {
+
+    // 같은 JVM 에서 생성된 모든 relay
+    private static final List<LoopbackMessageRelay> NODES = new CopyOnWriteArrayList<>();
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<RelayedMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    public LoopbackMessageRelay() {
+        NODES.add(this);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(RelayedMessage message) {
+        for (LoopbackMessageRelay node : NODES) {
+            if (node != this) {
+                node.listeners.forEach((listener) -> listener.accept(message));
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @PreDestroy
+    public void close() {
+        NODES.remove(this);
+    }
+}
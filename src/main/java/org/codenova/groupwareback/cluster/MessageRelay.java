@@ -0,0 +1,20 @@
+package org.codenova.groupwareback.cluster;
+
+import java.util.function.Consumer;
+
+/*
+    서버 간 STOMP 메시지 전달 방식
+    이 서버에서 convertAndSend 한 메시지를 다른 서버에 전달하고,
+    다른 서버에서 온 메시지는 등록된 listener 로 넘겨서 이 서버의 구독자에게 전송한다.
+ */
+public interface MessageRelay {
+
+    // 이 서버 식별자
+    String getNodeId();
+
+    // 다른 서버로 메시지 전달
+    void publish(RelayedMessage message);
+
+    // 다른 서버에서 받은 메시지를 처리할 listener 등록
+    void subscribe(Consumer<RelayedMessage> listener);
+}
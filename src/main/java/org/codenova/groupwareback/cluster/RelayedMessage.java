@@ -0,0 +1,18 @@
+package org.codenova.groupwareback.cluster;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 다른 서버로 전달되는 브로커 메시지 (목적지, content-type, 변환된 본문)
+@Getter
+@AllArgsConstructor
+public class RelayedMessage {
+
+    // 다른 서버에서 전달받은 메시지임을 표시하는 헤더 (다시 전달하지 않기 위함)
+    public static final String ORIGIN_HEADER = "relay-origin";
+
+    private final String origin;       // 메시지를 보낸 서버 ID
+    private final String destination;  // 구독 경로 (예: /chat-department/1)
+    private final String contentType;  // 본문 content-type (없으면 null)
+    private final byte[] payload;      // 본문
+}
@@ -0,0 +1,198 @@
+package org.codenova.groupwareback.cluster;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/*
+    UDP 로 지정된 다른 서버(peers)에 메시지를 전달하는 구현
+    외부 브로커 없이 한 대의 리눅스 서버에서 여러 인스턴스를 띄워 테스트할 수 있다.
+    예) 두 번째 인스턴스 실행 옵션
+        --server.port=9091 --cluster.relay.mode=udp
+        --cluster.relay.udp.port=9191 --cluster.relay.udp.peers=127.0.0.1:9190
+    UDP 특성상 64KB 를 넘는 메시지는 전달하지 않고, 전달 순서/도착을 보장하지 않는다.
+    bind-address 로 지정한 주소에서만 수신하고, 모든 서버가 같은 secret 으로 만든 HMAC-SHA256 서명과
+    보낸 시각(max-clock-skew 이내)이 맞는 메시지만 처리한다. (서명이 없으면 누구나 /private/* 로 메시지를 보낼 수 있음)
+ */
+@Component
+@ConditionalOnProperty(name = "cluster.relay.mode", havingValue = "udp")
+@Slf4j
+public class UdpMessageRelay implements MessageRelay {
+
+    private static final int MAX_DATAGRAM_SIZE = 65_507;
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<RelayedMessage>> listeners = new CopyOnWriteArrayList<>();
+    private final List<InetSocketAddress> peers;
+    private final DatagramSocket socket;
+    private final Thread receiver;
+    private final SecretKeySpec key;
+    private final long maxClockSkewMillis;
+
+    public UdpMessageRelay(@Value("${cluster.relay.udp.port:9190}") int port,
+                           @Value("${cluster.relay.udp.bind-address:127.0.0.1}") String bindAddress,
+                           @Value("${cluster.relay.udp.peers:}") List<String> peers,
+                           @Value("${cluster.relay.udp.secret:}") String secret,
+                           @Value("${cluster.relay.udp.max-clock-skew:30s}") Duration maxClockSkew) throws SocketException {
+        // 서명 키 없이 실행하면 외부에서 임의 메시지를 주입할 수 있으므로 시작하지 않음
+        if (secret == null || secret.length() < 16) {
+            throw new IllegalStateException("cluster.relay.udp.secret 을 16자 이상으로 설정해야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), MAC_ALGORITHM);
+        this.maxClockSkewMillis = maxClockSkew.toMillis();
+
+        this.peers = peers.stream()
+                .filter((peer) -> !peer.isBlank())
+                .map((peer) -> {
+                    String[] hostAndPort = peer.trim().split(":");
+                    return new InetSocketAddress(hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+                })
+                .toList();
+        this.socket = new DatagramSocket(new InetSocketAddress(bindAddress, port));
+
+        this.receiver = new Thread(this::receive, "udp-relay-receiver");
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+        log.info("UDP 메시지 전달 시작 : {}:{}, peers={}", bindAddress, port, this.peers);
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(RelayedMessage message) {
+        byte[] frame;
+        try {
+            frame = encode(message);
+        } catch (IOException e) {
+            log.warn("메시지 변환 실패 : {}", message.getDestination(), e);
+            return;
+        }
+
+        if (frame.length > MAX_DATAGRAM_SIZE) {
+            log.warn("메시지가 너무 커서 다른 서버로 전달하지 않음 : {} ({} bytes)", message.getDestination(), frame.length);
+            return;
+        }
+
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(frame, frame.length, peer));
+            } catch (IOException e) {
+                log.warn("메시지 전달 실패 : {}", peer, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<RelayedMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+        while (!socket.isClosed()) {
+            try {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                socket.receive(packet);
+
+                RelayedMessage message = decode(Arrays.copyOfRange(packet.getData(), packet.getOffset(), packet.getOffset() + packet.getLength()));
+                if (message == null) {
+                    log.warn("서명 또는 시각이 맞지 않는 메시지 무시 : {}", packet.getSocketAddress());
+                    continue;
+                }
+                if (nodeId.equals(message.getOrigin())) {
+                    continue;
+                }
+                listeners.forEach((listener) -> listener.accept(message));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("메시지 수신 실패", e);
+                }
+            } catch (RuntimeException e) {
+                log.warn("수신 메시지 처리 실패", e);
+            }
+        }
+    }
+
+    // [보낸 시각][origin][destination][contentType][payload 길이][payload][HMAC-SHA256 (앞부분 전체)]
+    byte[] encode(RelayedMessage message) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(message.getPayload().length + 160);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeLong(System.currentTimeMillis());
+        out.writeUTF(message.getOrigin());
+        out.writeUTF(message.getDestination());
+        out.writeUTF(message.getContentType() == null ? "" : message.getContentType());
+        out.writeInt(message.getPayload().length);
+        out.write(message.getPayload());
+        out.write(mac().doFinal(bytes.toByteArray()));
+        return bytes.toByteArray();
+    }
+
+    // 서명이 맞지 않거나 보낸 시각이 허용 범위를 벗어나면 null
+    RelayedMessage decode(byte[] frame) throws IOException {
+        if (frame.length <= MAC_LENGTH) {
+            return null;
+        }
+        int bodyLength = frame.length - MAC_LENGTH;
+        Mac mac = mac();
+        mac.update(frame, 0, bodyLength);
+        if (!MessageDigest.isEqual(mac.doFinal(), Arrays.copyOfRange(frame, bodyLength, frame.length))) {
+            return null;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(frame, 0, bodyLength));
+        long sentAt = in.readLong();
+        if (Math.abs(System.currentTimeMillis() - sentAt) > maxClockSkewMillis) {
+            return null;
+        }
+        String origin = in.readUTF();
+        String destination = in.readUTF();
+        String contentType = in.readUTF();
+        byte[] payload = new byte[in.readInt()];
+        in.readFully(payload);
+        return new RelayedMessage(origin, destination, contentType.isEmpty() ? null : contentType, payload);
+    }
+
+    private Mac mac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        socket.close();
+    }
+}
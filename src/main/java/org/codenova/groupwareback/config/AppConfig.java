@@ -1,6 +1,7 @@
 package org.codenova.groupwareback.config;
 
 import org.codenova.groupwareback.interceptor.AuthInterceptor;
+import org.codenova.groupwareback.interceptor.RateLimitInterceptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -13,6 +14,10 @@ public class AppConfig implements WebMvcConfigurer {
     @Autowired
     private AuthInterceptor authInterceptor;
 
+    // 쓰기 API 요청 수 제한 인터셉터 주입
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
     // 인터셉터 등록 설정
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -24,7 +29,19 @@ public class AppConfig implements WebMvcConfigurer {
                         "/api/private/**",   // /api/private 이하 모든 요청
                         "/api/board/**",     // /api/board 이하 모든 요청
                         "/api/note/**",      // /api/note 이하 모든 요청
-                        "/api/chat/**"
+                        "/api/chat/**",
+                        "/api/presence/**",  // 접속자 목록
+                        "/api/employee/bulk",   // 사원 일괄 등록 (허용된 직책만)
+                        "/api/employee/export"  // 사원 전체 내보내기
+                );
+
+        // 사원별 쓰기 요청 수 제한 (인증 후 실행, 검사할 API 는 rate-limit.rules.* 에서 지정)
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns(
+                        "/api/board/**",
+                        "/api/note/**",
+                        "/api/chat/**",
+                        "/api/employee/bulk"
                 );
     }
 }
@@ -0,0 +1,47 @@
+package org.codenova.groupwareback.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/*
+    비동기 작업용 스레드 풀 설정
+    쪽지 수신 알림처럼 요청 스레드에서 처리할 필요가 없는 작업을 별도 스레드에서 실행
+ */
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 웹소켓 알림 전송 전용 스레드 풀
+    @Bean(name = "notificationExecutor")
+    public Executor notificationExecutor(@Value("${notification.executor.pool-size:4}") int poolSize,
+                                         @Value("${notification.executor.queue-capacity:1000}") int queueCapacity,
+                                         @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+
+        // 가상 스레드 모드 : 작업마다 가상 스레드 생성 (동시 실행 수만 제한)
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("notification-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(poolSize * 16);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        // 대기열이 가득 차면 호출한 스레드에서 직접 실행 (알림 유실 방지)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
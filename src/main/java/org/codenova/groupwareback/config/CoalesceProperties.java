@@ -0,0 +1,37 @@
+package org.codenova.groupwareback.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    웹소켓 알림 묶음 전송 설정 (application.properties 의 notification.coalesce.*)
+    구독 경로 prefix 별로
+      - window      : 마지막 알림 이후 이 시간 동안 추가 알림이 없으면 전송
+      - max-latency : 첫 알림 이후 최대 이 시간이 지나면 계속 알림이 와도 전송
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.coalesce")
+@Getter
+@Setter
+public class CoalesceProperties {
+
+    // 전송 대상 확인 주기
+    private Duration tick = Duration.ofMillis(100);
+
+    // 규칙 이름 -> 규칙
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String prefix;
+        private Duration window = Duration.ofMillis(500);
+        private Duration maxLatency = Duration.ofSeconds(2);
+    }
+}
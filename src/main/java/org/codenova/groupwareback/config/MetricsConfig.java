@@ -0,0 +1,74 @@
+package org.codenova.groupwareback.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.codenova.groupwareback.interceptor.AuthInterceptor;
+import org.codenova.groupwareback.service.PresenceRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/*
+    애플리케이션 메트릭 등록 (/actuator/prometheus 로 수집)
+    HTTP 요청 지연시간, HikariCP, Hibernate 통계는 스프링 부트가 자동 등록하고
+    여기서는 웹소켓 브로커 / 인증 캐시 관련 값만 추가로 등록
+ */
+
+@Configuration
+public class MetricsConfig {
+
+    // 웹소켓 세션 수 / 채널별 대기열 길이 / 처리 중인 메시지 수
+    @Bean
+    public MeterBinder brokerMetrics(PresenceRegistry presenceRegistry,
+                                     WebSocketMessageBrokerStats webSocketMessageBrokerStats,
+                                     @Qualifier("clientInboundChannelExecutor") Executor inbound,
+                                     @Qualifier("clientOutboundChannelExecutor") Executor outbound,
+                                     @Qualifier("brokerChannelExecutor") Executor broker,
+                                     @Value("${websocket.stats.logging-period:30m}") Duration loggingPeriod) {
+
+        // 브로커 통계 요약 로그 출력 주기 (기본 30분)
+        webSocketMessageBrokerStats.setLoggingPeriod(loggingPeriod.toMillis());
+
+        return (registry) -> {
+            Gauge.builder("websocket.sessions", presenceRegistry, PresenceRegistry::getSessionCount)
+                    .description("인증된 STOMP 세션 수")
+                    .register(registry);
+
+            Map<String, Executor> channels = Map.of("inbound", inbound, "outbound", outbound, "broker", broker);
+            channels.forEach((channel, executor) -> {
+                // 브로커 채널은 실행기 없이 동기로 처리될 수 있으므로 스레드 풀인 경우만 등록
+                if (executor instanceof ThreadPoolTaskExecutor pool) {
+                    Gauge.builder("websocket.channel.queued", pool, (p) -> p.getThreadPoolExecutor().getQueue().size())
+                            .tag("channel", channel)
+                            .description("처리 대기 중인 메시지 수")
+                            .register(registry);
+                    Gauge.builder("websocket.channel.active", pool, ThreadPoolTaskExecutor::getActiveCount)
+                            .tag("channel", channel)
+                            .description("처리 중인 메시지 수")
+                            .register(registry);
+                }
+            });
+        };
+    }
+
+    // 토큰 검증 캐시 적중 / 실패 횟수
+    @Bean
+    public MeterBinder authCacheMetrics(AuthInterceptor authInterceptor) {
+        return (registry) -> {
+            FunctionCounter.builder("auth.token.cache", authInterceptor, AuthInterceptor::getCacheHits)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("auth.token.cache", authInterceptor, AuthInterceptor::getCacheMisses)
+                    .tag("result", "miss")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,40 @@
+package org.codenova.groupwareback.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    쓰기 API 요청 수 제한 설정 (application.properties 의 rate-limit.*)
+    규칙별로 사원마다 capacity 개의 토큰을 갖고, period 동안 capacity 개가 다시 채워진다.
+    (예 : capacity=20, period=10s -> 한 번에 최대 20건, 이후 0.5초마다 1건)
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    // 요청이 없는 사원의 토큰 정보를 메모리에서 제거하는 시간 (period 보다 길면 제거돼도 결과가 같음)
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // 메모리에 유지하는 최대 토큰 정보 수 (사원 수 x 규칙 수)
+    private long maxBuckets = 100_000;
+
+    // 규칙 이름 -> 규칙
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String method = "POST";
+        private String pattern;
+        private int capacity = 10;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
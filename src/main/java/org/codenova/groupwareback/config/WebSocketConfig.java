@@ -1,6 +1,11 @@
 package org.codenova.groupwareback.config;
 
+import org.codenova.groupwareback.cluster.ClusterRelayInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -15,6 +20,18 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker // STOMP 메시지 처리 활성화
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // 서버에서 보낸 메시지를 다른 서버에도 전달하는 인터셉터
+    @Autowired
+    private ClusterRelayInterceptor clusterRelayInterceptor;
+
+    // 가상 스레드 사용 여부 (spring.threads.virtual.enabled 와 같은 설정 사용)
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 가상 스레드 모드에서 채널별로 동시에 처리할 최대 메시지 수
+    @Value("${websocket.channel.virtual-concurrency-limit:512}")
+    private int virtualConcurrencyLimit;
+
     // 클라이언트가 연결할 WebSocket 엔드포인트 설정
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -28,5 +45,32 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // /public 또는 /private로 시작하는 채널 구독 허용
         registry.enableSimpleBroker("/public", "/private", "/chat-department");
+
+        // convertAndSend 로 브로커에 들어가는 메시지를 다른 서버(인스턴스)에도 전달
+        registry.configureBrokerChannel().interceptors(clusterRelayInterceptor);
+    }
+
+    // 클라이언트 -> 서버 메시지 처리 채널
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("clientInbound-"));
+        }
+    }
+
+    // 서버 -> 클라이언트 메시지 전송 채널
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreads) {
+            registration.executor(virtualThreadExecutor("clientOutbound-"));
+        }
+    }
+
+    // 메시지마다 가상 스레드를 새로 만드는 채널 실행기 (가상 스레드는 풀로 재사용하지 않고, 동시 처리 수만 제한)
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String prefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(prefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualConcurrencyLimit);
+        return executor;
     }
 }
@@ -3,22 +3,30 @@ package org.codenova.groupwareback.controller;
 import lombok.RequiredArgsConstructor;
 import org.codenova.groupwareback.entity.Board;
 import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
 import org.codenova.groupwareback.repository.BoardRepository;
 import org.codenova.groupwareback.repository.EmployeeRepository;
 import org.codenova.groupwareback.request.AddBoard;
-import org.springframework.data.domain.Page;
+import org.codenova.groupwareback.response.BoardDetail;
+import org.codenova.groupwareback.response.BoardSummary;
+import org.codenova.groupwareback.service.BoardSearchIndex;
+import org.codenova.groupwareback.service.BoardViewCounter;
+import org.codenova.groupwareback.service.NotificationCoalescer;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @CrossOrigin
 @RestController
@@ -29,20 +37,17 @@ public class BoardController {
     // 사원과 게시글 정보를 다루기 위한 리포지토리 의존성 주입
     private final EmployeeRepository employeeRepository;
     private final BoardRepository boardRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationCoalescer notificationCoalescer;
+    private final BoardViewCounter boardViewCounter;
+    private final BoardSearchIndex boardSearchIndex;
 
     // 신규 글 등록 API =========================================================
     @PostMapping
-    public ResponseEntity<Board> createBoard(@RequestAttribute String subject,
+    public ResponseEntity<BoardDetail> createBoard(@RequestAttribute AuthPrincipal principal,
                                              @RequestBody AddBoard addBoard) {
 
-        // subject(로그인한 사원 ID)로 사원 정보 조회
-        Optional<Employee> optionalEmployee = employeeRepository.findById(subject);
-
-        // 사원이 없으면 404 Not Found 예외 발생
-        Employee employee = optionalEmployee.orElseThrow(() -> {
-            return new ResponseStatusException(HttpStatus.NOT_FOUND);
-        });
+        // 인터셉터에서 확인된 사원이므로 조회 없이 참조만 생성
+        Employee employee = employeeRepository.getReferenceById(principal.getId());
 
         // 게시글 객체 생성
         Board board = Board.builder()
@@ -56,17 +61,43 @@ public class BoardController {
         // DB에 게시글 저장
         boardRepository.save(board);
 
-        // /public 채널로 새 글 등록 실시간 알림 전송
-        messagingTemplate.convertAndSend("/public", "새 글이 등록되었습니다.");
+        // 검색 색인에 새 글 추가
+        boardSearchIndex.add(board.getId(), board.getTitle(), board.getContent());
+
+        // /public 채널로 새 글 등록 실시간 알림 전송 (짧은 시간 안에 여러 건이면 묶어서 전송)
+        notificationCoalescer.submit("/public", "board.created", "새 글이 등록되었습니다.",
+                (count) -> "새 글 " + count + "건이 등록되었습니다.");
 
-        // 201 Created 응답 + 저장된 게시글 정보 반환
-        return ResponseEntity.status(201).body(board);
+        // 201 Created 응답 + 저장된 게시글 정보 반환 (작성자는 ID와 이름만)
+        BoardDetail detail = new BoardDetail(board.getId(), board.getTitle(), board.getContent(),
+                principal.getId(), principal.getName(), board.getViewCount(), board.getWroteAt());
+        return ResponseEntity.status(201).body(detail);
     }
 
 
     // 전체 글 정보 목록 API ======================================
     @GetMapping
-    public ResponseEntity<?> getBoards(@RequestParam(name = "p") Optional<Integer> p) {
+    public ResponseEntity<?> getBoards(@RequestParam(name = "p") Optional<Integer> p,
+                                       @RequestParam(name = "after") Optional<Long> after,
+                                       @RequestParam(name = "size") Optional<Integer> size) {
+
+        // after 또는 size 가 전달되면 커서(keyset) 방식으로 조회
+        // 마지막으로 받은 글 ID(after) 이후의 글만 조회하므로 몇 번째 페이지든 조회 비용이 일정함
+        if (after.isPresent() || size.isPresent()) {
+            int pageSize = Math.min(Math.max(size.orElse(10), 1), 50); // 1 ~ 50개로 제한
+
+            // after 가 없으면 가장 최신 글부터 조회
+            List<BoardSummary> summaries =
+                    boardRepository.findSummariesBefore(after.orElse(Long.MAX_VALUE), PageRequest.of(0, pageSize));
+
+            // 아직 DB에 반영되지 않은 조회수 합산
+            for (BoardSummary summary : summaries) {
+                summary.setViewCount(summary.getViewCount() + (int) boardViewCounter.pending(summary.getId()));
+            }
+
+            // 200 OK 응답 + 게시글 요약 리스트 반환
+            return ResponseEntity.status(200).body(summaries);
+        }
 
         // ID 기준으로 내림차순 정렬하여 모든 게시글 조회
         //  List<Board> boards = boardRepository.findAll(Sort.by("id").descending());
@@ -76,22 +107,67 @@ public class BoardController {
 
         // 첫 번째 인자 : 페이지 인덱스
         // 두 번째 인자 : 몇 개씩 페이징 처리할 건지
-        Page<Board> boards = boardRepository.findAll(PageRequest.of(pageNumber - 1, 10));
+        // 전체 건수(count) 쿼리 없이 요약 정보만 조회
+        List<BoardSummary> boards = boardRepository.findSummaries(PageRequest.of(pageNumber - 1, 10));
+
+        // 아직 DB에 반영되지 않은 조회수 합산
+        for (BoardSummary summary : boards) {
+            summary.setViewCount(summary.getViewCount() + (int) boardViewCounter.pending(summary.getId()));
+        }
 
         // 200 OK 응답 + 게시글 리스트 반환
-        return ResponseEntity.status(200).body(boards.getContent());
+        return ResponseEntity.status(200).body(boards);
+    }
+
+
+    // 글 검색 API ===========================================
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBoards(@RequestParam(name = "q") String q,
+                                          @RequestParam(name = "p") Optional<Integer> p,
+                                          @RequestParam(name = "size") Optional<Integer> size) {
+
+        int pageNumber = Math.max(p.orElse(1), 1);
+        int pageSize = Math.min(Math.max(size.orElse(10), 1), 50); // 1 ~ 50개로 제한
+
+        // 메모리 색인에서 점수 순으로 게시글 ID 조회
+        List<Long> ids = boardSearchIndex.search(q, (pageNumber - 1) * pageSize, pageSize);
+        if (ids.isEmpty()) {
+            return ResponseEntity.status(200).body(List.of());
+        }
+
+        // 해당 ID 들의 요약 정보를 조회한 후 검색 점수 순서대로 정렬
+        Map<Long, BoardSummary> found = boardRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(BoardSummary::getId, Function.identity()));
+        List<BoardSummary> results = ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 아직 DB에 반영되지 않은 조회수 합산
+        for (BoardSummary summary : results) {
+            summary.setViewCount(summary.getViewCount() + (int) boardViewCounter.pending(summary.getId()));
+        }
+
+        // 200 OK 응답 + 검색 결과 반환
+        return ResponseEntity.status(200).body(results);
     }
 
 
     // 특정 글 정보 API =========================================
     @GetMapping("/{id}")
-    public ResponseEntity<Board> getBoardDetailHandle(@PathVariable Long id) {
+    public ResponseEntity<BoardDetail> getBoardDetailHandle(@PathVariable Long id) {
 
         // ID로 게시글 조회 (없으면 404 예외 발생)
-        Board board = boardRepository.findById(id).orElseThrow(() -> {
+        BoardDetail board = boardRepository.findDetailById(id).orElseThrow(() -> {
             return new ResponseStatusException(HttpStatus.NOT_FOUND);
         });
 
+        // 조회수 증가 (메모리에 누적 후 주기적으로 DB 반영)
+        boardViewCounter.increment(id);
+
+        // 아직 DB에 반영되지 않은 조회수를 합산해서 응답
+        board.setViewCount(board.getViewCount() + (int) boardViewCounter.pending(id));
+
         // 200 OK 응답 + 게시글 정보 반환
         return ResponseEntity.status(200).body(board);
 
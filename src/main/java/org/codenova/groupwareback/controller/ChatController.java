@@ -1,19 +1,27 @@
 package org.codenova.groupwareback.controller;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.codenova.groupwareback.entity.Chat;
-import org.codenova.groupwareback.entity.Department;
-import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
 import org.codenova.groupwareback.repository.ChatRepository;
-import org.codenova.groupwareback.repository.DepartmentRepository;
-import org.codenova.groupwareback.repository.EmployeeRepository;
 import org.codenova.groupwareback.request.AddChat;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.codenova.groupwareback.service.ChatIngestor;
+import org.codenova.groupwareback.service.ChatRingBuffer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 
 @CrossOrigin
@@ -24,53 +32,69 @@ import java.util.List;
 public class ChatController {
 
     // 의존성 주입 ====================================================================
-    private final DepartmentRepository departmentRepository;
-    private final EmployeeRepository employeeRepository;
     private final ChatRepository chatRepository;
+    private final ChatIngestor chatIngestor;
     private final SimpMessagingTemplate messagingTemplate;  // STOMP 메시지 전송용(WebSocket)
+    private final MeterRegistry meterRegistry;
+    private final ChatRingBuffer chatRingBuffer;
 
 
     // 새 채팅 등록 API ===============================================================
     @PostMapping("/{departmentId}")
-    public ResponseEntity<?> postChatHandle(@RequestAttribute String subject,
-                                            @RequestBody AddChat addChat,
+    public ResponseEntity<?> postChatHandle(@RequestAttribute AuthPrincipal principal,
+                                            @RequestBody @Valid AddChat addChat,
+                                            BindingResult bindingResult,
                                             @PathVariable Integer departmentId) {
 
-        // 로그인한 사용자의 ID(subject)를 기반으로 사원 정보 조회
-        Employee subjectEmployee = employeeRepository.findById(subject).orElseThrow();
+        // 메시지가 없거나 1000자를 넘으면 400 Bad Request
+        if (bindingResult.hasErrors()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "메시지는 1~1000자로 입력해야 합니다.");
+        }
 
-        // 채팅 대상 부서 ID를 이용해 부서 정보 조회
-        Department department = departmentRepository.findById(departmentId).orElseThrow();
-
-        // 채팅 객체 생성
-        Chat chat = Chat.builder()
-                .talker(subjectEmployee)           // 채팅을 보낸 사람
-                .message(addChat.getMessage())     // 입력한 메시지 내용
-                .department(department)            // 채팅이 속한 부서
-                .build();
-
-        // 생성한 chat 객체를 DB에 저장
-        chatRepository.save(chat);
+        // 채팅 저장 (chat.persistence.mode=write-behind 이면 로컬 로그에 기록 후 DB 저장은 백그라운드에서 처리)
+        // 보낸 사원은 인터셉터에서 확인된 사원이므로 조회 없이 ID/이름만 사용, 없는 부서면 404
+        ChatMessage chatMessage = chatIngestor.post(departmentId, principal, addChat.getMessage());
 
         log.info("새 채팅 등록 요청 처리 완료");
+        meterRegistry.counter("chat.posted").increment();
+
+        // 부서별 최근 채팅 보관소에 추가 (채팅방 입장 시 DB 조회 없이 응답)
+        chatRingBuffer.append(chatMessage);
 
-        // WebSocket 브로커를 통해 해당 부서 채팅방 구독자에게 newChat 메시지 전송
-        // 프론트엔드에서 이 메시지를 받으면 새 채팅이 등록되었음을 감지하고 채팅 목록 새로고침
-        messagingTemplate.convertAndSend("/chat-department/" + departmentId, "newChat");
+        // WebSocket 브로커를 통해 해당 부서 채팅방 구독자에게 저장된 채팅을 전송
+        // 프론트엔드는 목록을 다시 조회하지 않고 받은 채팅을 목록에 바로 추가
+        messagingTemplate.convertAndSend("/chat-department/" + departmentId, chatMessage);
 
-        // 채팅 생성 성공 응답(201 Created) + 채팅 객체 반환
-        return ResponseEntity.status(201).body(chat);
+        // 채팅 생성 성공 응답(201 Created) + 채팅 정보 반환
+        return ResponseEntity.status(201).body(chatMessage);
     }
 
     // 해당 부서의 채팅 리스트 =========================================================
     @GetMapping("/{departmentId}")
-    public ResponseEntity<?> getChatList(@PathVariable Integer departmentId) {
-
-        // 부서 ID를 기반으로 부서 정보 조회
-        Department department = departmentRepository.findById(departmentId).orElseThrow();
-
-        // 해당 부서의 채팅 목록을 ID 순서대로 조회
-        List<Chat> chatList = chatRepository.findAllByDepartmentOrderById(department);
+    public ResponseEntity<?> getChatList(@PathVariable Integer departmentId,
+                                         @RequestParam(name = "since") Optional<Long> since,
+                                         @RequestParam(name = "before") Optional<Long> before,
+                                         @RequestParam(name = "size") Optional<Integer> size) {
+
+        // before 가 전달되면 해당 id 이전 채팅을 DB에서 keyset 방식으로 조회 (이전 대화 더보기)
+        if (before.isPresent()) {
+            int pageSize = Math.min(Math.max(size.orElse(50), 1), 200); // 1 ~ 200개로 제한
+
+            List<ChatMessage> chatList = new ArrayList<>(
+                    chatRepository.findMessagesBefore(departmentId, before.get(), PageRequest.of(0, pageSize)));
+            Collections.reverse(chatList); // 화면에 표시하는 순서(ID 오름차순)로 변경
+
+            return ResponseEntity.status(200).body(chatList);
+        }
+
+        // 최근 채팅은 메모리 보관소에서 응답 (처음 조회되는 부서는 DB에서 최근 채팅을 읽어서 채움, 없는 부서면 404)
+        // since 가 전달되면 해당 id 이후의 채팅만 응답 (재접속한 클라이언트가 놓친 채팅만 받아감)
+        List<ChatMessage> chatList = chatRingBuffer.recent(departmentId, since.orElse(null));
+
+        // 보관 범위보다 오래 전에 끊긴 클라이언트는 DB에서 조회
+        if (chatList == null) {
+            chatList = chatRepository.findMessagesSince(departmentId, since.get());
+        }
 
         // 성공 200 ok + 조회된 채팅 목록 반환
         return ResponseEntity.status(200).body(chatList);
@@ -2,26 +2,40 @@ package org.codenova.groupwareback.controller;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.codenova.groupwareback.entity.Department;
 import org.codenova.groupwareback.entity.Employee;
-import org.codenova.groupwareback.entity.Serial;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
 import org.codenova.groupwareback.repository.DepartmentRepository;
 import org.codenova.groupwareback.repository.EmployeeRepository;
-import org.codenova.groupwareback.repository.SerialRepository;
 import org.codenova.groupwareback.request.AddEmployee;
 import org.codenova.groupwareback.request.Login;
+import org.codenova.groupwareback.response.BulkEmployeeResult;
+import org.codenova.groupwareback.response.EmployeeProfile;
 import org.codenova.groupwareback.response.LoginResult;
-import org.mindrot.jbcrypt.BCrypt;
+import org.codenova.groupwareback.service.EmployeeExporter;
+import org.codenova.groupwareback.service.EmployeeOnboarding;
+import org.codenova.groupwareback.service.PasswordHasher;
+import org.codenova.groupwareback.service.PrincipalCache;
+import org.codenova.groupwareback.service.SerialAllocator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,29 +49,55 @@ public class EmployeeController {
     // 의존성 주입을 통해 각 리포지토리를 사용 가능하게 설정
     private final EmployeeRepository employeeRepository;
     private final DepartmentRepository departmentRepository;
-    private final SerialRepository serialRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SerialAllocator serialAllocator;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
+    private final EmployeeOnboarding employeeOnboarding;
+    private final EmployeeExporter employeeExporter;
 
     // application.yml에 정의된 시크릿 키를 가져옴 (JWT 서명용)
     // springframwork 패키지의 value 어노테이션
     @Value("${secret}")
     private String secret;
 
+    // 사원 일괄 등록을 허용하는 직책
+    @Value("${employee.bulk.allowed-positions:팀장}")
+    private List<String> bulkAllowedPositions;
+
     // 사원 전체 목록 조회 API ========================================================
     @GetMapping
-    public ResponseEntity<List<Employee>> getEmployeeHandle() {
+    public ResponseEntity<List<EmployeeProfile>> getEmployeeHandle() {
 
-        // DB에서 모든 사원 정보 조회
-        List<Employee> list = employeeRepository.findAll();
+        // DB에서 모든 사원 정보 조회 (비밀번호 제외, 부서는 ID와 이름만)
+        List<EmployeeProfile> list = employeeRepository.findProfiles();
 
         // 200 OK와 함께 사원 리스트 반환
         return ResponseEntity.status(200).body(list);
     }
 
+    // 사원 전체 내보내기 API (format : csv / jsonl) ============================================
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> getEmployeeExportHandle(@RequestParam(defaultValue = "csv") String format) {
+
+        // 지원하지 않는 형식이면 400 Bad Request
+        if (!format.equals("csv") && !format.equals("jsonl")) {
+            return ResponseEntity.status(400).body(null);
+        }
+        boolean csv = format.equals("csv");
+
+        // 응답 본문은 별도 스레드에서 DB 조회 결과를 한 건씩 바로 출력 (전체 목록을 메모리에 만들지 않음)
+        StreamingResponseBody body = (out) -> employeeExporter.export(csv, out);
+
+        return ResponseEntity.status(200)
+                .contentType(csv ? new MediaType("text", "csv", StandardCharsets.UTF_8) : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=employees." + format)
+                .body(body);
+    }
+
     // 사원 등록 API ===========================================================
     @PostMapping
     @Transactional
-    public ResponseEntity<Employee> postEmployeeHandle(@RequestBody @Valid AddEmployee addEmployee,
+    public ResponseEntity<EmployeeProfile> postEmployeeHandle(@RequestBody @Valid AddEmployee addEmployee,
                                                        BindingResult result) {
 
         // 유효성 검사 실패시 400 bad request
@@ -67,13 +107,6 @@ public class EmployeeController {
         }
 
         // 1. 사원번호 생성, 부서 객체
-        // 사원 ID 생성을 위한 시리얼 번호 조회
-        // JPA에서는 ID나 ref로 조회하면 Optional 타입으로 반환됨
-        Optional<Serial> serial = serialRepository.findByRef("employee");
-
-        // 정석적으로는 serial.isPresent() 체크해야 하지만 무조건 있다고 가정하고 바로 꺼냄
-        Serial found = serial.get();
-
         // 입력된 부서 ID로 부서 조회
         Optional<Department> department = departmentRepository.findById(addEmployee.getDepartmentId());
 
@@ -82,10 +115,13 @@ public class EmployeeController {
             return ResponseEntity.status(400).body(null);
         }
 
+        // 사원 ID 생성을 위한 시리얼 번호 발급 (미리 예약해둔 구간에서 꺼내므로 동시 등록에도 중복 없음)
+        long serialNumber = serialAllocator.next("employee");
+
         // 2. 사원 객체 생성 및 저장
         Employee employee = Employee.builder()
-                .id("g-" + (found.getLastNumber() + 1))                      // 사원 ID : g-번호
-                .password(BCrypt.hashpw("0000", BCrypt.gensalt()))   // 초기 비밀번호 0000 암호화
+                .id("g-" + serialNumber)                                     // 사원 ID : g-번호
+                .password(passwordHasher.hash("0000"))                 // 초기 비밀번호 0000 암호화
                 .name(addEmployee.getName())                                 // 사원 이름
                 .active("N")                                                 // 기본 재직 상태 N
                 .email(addEmployee.getEmail())                               // 이메일
@@ -97,15 +133,35 @@ public class EmployeeController {
         // DB에 사원 정보 저장
         employeeRepository.save(employee);
 
-        // 사원번호 시리얼 last_number +1 증가
-        found.setLastNumber(found.getLastNumber() + 1);
-
-        // 업데이트 된 시리얼 정보 저장 (update 쿼리 자동 발생)
-        serialRepository.save(found);
+        // 같은 ID로 캐시된 인증 사용자 정보가 있다면 무효화
+        principalCache.evict(employee.getId());
 
         //  저장된 사원 정보 포함하여 201 Created 반환
         // 201 created : 요청이 성공적으로 처리되었으며, 자원이 생성되었음을 나타내는 성공 상태 응답 코드
-        return ResponseEntity.status(201).body(employee);
+        return ResponseEntity.status(201).body(EmployeeProfile.from(employee));
+    }
+
+
+    // 사원 일괄 등록 API (CSV 또는 JSON lines) ===========================================
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkEmployeeResult> postEmployeeBulkHandle(@RequestAttribute AuthPrincipal principal,
+                                                                     HttpServletRequest request) throws IOException {
+
+        // 허용된 직책이 아니면 403 Forbidden (인증은 AuthInterceptor 에서 확인)
+        if (!bulkAllowedPositions.contains(principal.getPosition())) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "사원 일괄 등록 권한이 없습니다.");
+        }
+
+        // Content-Type 이 text/csv 면 CSV, 그 외에는 한 줄에 JSON 객체 하나로 처리
+        String contentType = request.getContentType();
+        boolean csv = contentType != null && contentType.toLowerCase().contains("csv");
+
+        // 요청 본문 전체를 메모리에 올리지 않고 한 줄씩 읽으면서 검사
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        BulkEmployeeResult result = employeeOnboarding.register(reader, csv);
+
+        // 행별 결과를 포함하여 200 OK 반환 (일부 행이 실패해도 나머지는 등록됨)
+        return ResponseEntity.status(200).body(result);
     }
 
 
@@ -119,14 +175,21 @@ public class EmployeeController {
             return ResponseEntity.status(400).body(null);
         }
 
-        // 사원 ID로 사원 정보 조회
-        Optional<Employee> employee = employeeRepository.findById(login.getId());
+        // 사원 ID로 사원 정보 조회 (응답에 포함되는 부서까지 한 번에 조회)
+        Optional<Employee> employee = employeeRepository.findWithDepartmentById(login.getId());
 
         // 사원이 없거나 비밀번호가 틀리면 401 Unauthorized
-        if (employee.isEmpty() || !BCrypt.checkpw(login.getPassword(), employee.get().getPassword())) {
+        // BCrypt 검증은 전용 스레드 풀에서 처리 (대기열이 가득 차면 503)
+        if (employee.isEmpty() || !passwordHasher.check(login.getPassword(), employee.get().getPassword())) {
             return ResponseEntity.status(401).body(null);
         }
 
+        // 저장된 비밀번호의 cost 가 현재 설정과 다르면 로그인한 비밀번호로 다시 암호화해서 저장
+        if (passwordHasher.needsRehash(employee.get().getPassword())) {
+            employee.get().setPassword(passwordHasher.hash(login.getPassword()));
+            employeeRepository.save(employee.get());
+        }
+
         // JWT 토큰 생성 (HMAC256 + 시크릿 키)
         String token = JWT.create()
                 .withIssuer("groupware")              // 발급자 정보
@@ -136,12 +199,9 @@ public class EmployeeController {
         // 로그인 성공 시 반환할 응답 객체 생성
         LoginResult loginResult = LoginResult.builder()  // LoginResult 객체를 빌더 패턴으로 생성 시작
                 .token(token)                            // JWT 토큰을 응답에 포함시킴
-                .employee(employee.get())                // 로그인한 사원의 전체 정보를 포함시킴
+                .employee(EmployeeProfile.from(employee.get())) // 로그인한 사원 정보 (비밀번호 제외)
                 .build();                                // 최종적으로 LoginResult 객체 완성
 
-        messagingTemplate.convertAndSend("/public",
-                employee.get().getId()+" 가 로그인하였습니다.");
-
         // 200 OK + 로그인 결과 반환
         return ResponseEntity.status(200).body(loginResult);
     }
@@ -149,10 +209,10 @@ public class EmployeeController {
 
     // 특정 사원 상세 정보 조회 API ========================================================
     @GetMapping("/{id}")
-    public ResponseEntity<Employee> getEmployeeDetailHandle(@PathVariable String id) {
+    public ResponseEntity<EmployeeProfile> getEmployeeDetailHandle(@PathVariable String id) {
 
-        // 사원 ID로 데이터 조회
-        Optional<Employee> employee = employeeRepository.findById(id);
+        // 사원 ID로 데이터 조회 (비밀번호 제외)
+        Optional<EmployeeProfile> employee = employeeRepository.findProfileById(id);
 
         // 사원이 없으면 404 Not Found 반환
         if (employee.isEmpty()) {
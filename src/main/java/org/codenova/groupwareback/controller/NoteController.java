@@ -1,6 +1,7 @@
 package org.codenova.groupwareback.controller;
 
 
+import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,20 +9,30 @@ import lombok.extern.slf4j.Slf4j;
 import org.codenova.groupwareback.entity.Employee;
 import org.codenova.groupwareback.entity.Note;
 import org.codenova.groupwareback.entity.NoteStatus;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
 import org.codenova.groupwareback.repository.EmployeeRepository;
 import org.codenova.groupwareback.repository.NoteRepository;
 import org.codenova.groupwareback.repository.NoteStatusRepository;
 import org.codenova.groupwareback.request.AddNote;
+import org.codenova.groupwareback.response.ReceivedNote;
+import org.codenova.groupwareback.response.SentNoteSummary;
+import org.codenova.groupwareback.service.NoteFanoutService;
+import org.codenova.groupwareback.service.NotificationCoalescer;
+import org.codenova.groupwareback.service.UnreadNoteCounter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -35,12 +46,14 @@ public class NoteController {
     private final EmployeeRepository employeeRepository;
     private final NoteRepository noteRepository;
     private final NoteStatusRepository noteStatusRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationCoalescer notificationCoalescer;
+    private final NoteFanoutService noteFanoutService;
+    private final UnreadNoteCounter unreadNoteCounter;
 
 
     // 쪽지 전송 API ===========================================================
     @PostMapping
-    public ResponseEntity<?> createNote(@RequestAttribute String subject,
+    public ResponseEntity<?> createNote(@RequestAttribute AuthPrincipal principal,
                                         @RequestBody @Valid AddNote addNote,
                                         BindingResult bindingResult) {
 
@@ -51,11 +64,8 @@ public class NoteController {
             );
         }
 
-        // 보낸 사람(로그인한 사원) 정보를 DB에서 조회
-        Employee subjectEmployee = employeeRepository.findById(subject).orElseThrow(() -> {
-            // 사원이 없으면 401 Unauthorized 인증되지 않은 사용자 처리
-            return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "미인증 사원");
-        });
+        // 보낸 사람(로그인한 사원)은 인터셉터에서 확인되었으므로 조회 없이 참조만 생성
+        Employee subjectEmployee = employeeRepository.getReferenceById(principal.getId());
 
         // 보낼 쪽지 내용 객체 생성
         Note note = Note.builder()
@@ -65,59 +75,8 @@ public class NoteController {
                 .sender(subjectEmployee)       // 누가 보냈는지 설정
                 .build();
 
-        // DB에 쪽지 저장
-        noteRepository.save(note);
-
-        /*
-        // 수신자 ID 리스트를 사원 객체로 변환하며 존재 여부 검증
-        List<Employee> receiver = addNote
-                .getReceiverIds()
-                .stream()
-                .map((id) -> employeeRepository
-                        .findById(id)
-                        .orElseThrow(() -> new ResponseStatusException(
-                                HttpStatus.NOT_FOUND,
-                                "대상이 존재하지 않습니다.")
-                        ))
-                .toList();
-         */
-
-        // DB에서 수신자 전체 목록 조회
-        List<Employee> receivers = employeeRepository.findAllById(addNote.getReceiverIds());
-
-        /*
-        // 각 수신자에 대해 NoteStatus 생성 및 저장
-        for (Employee e : receivers) {
-            NoteStatus noteStatues = NoteStatus.builder()
-                    .note(note)      // 어떤 쪽지인지 연결
-                    .isRead(false)   // 아직 읽지 않은 상태
-                    .isDelete(false) // 아직 삭제하지 않은 상태
-                    .receiver(e)     // 이 수신자에게 보내는 상태 정보
-                    .build();
-
-            // 쪽지 상태 저장
-            noteStatusRepository.save(noteStatues);
-        }
-         */
-
-        // NoteStatus 객체 리스트 생성
-        List<NoteStatus> noteStatus = receivers.stream()
-                .map((employee) -> {
-                    return NoteStatus.builder()
-                            .note(note)
-                            .isRead(false)
-                            .isDelete(false)
-                            .receiver(employee)
-                            .build();
-                }).toList();
-
-        // NoteStatus 전체 저장
-        noteStatusRepository.saveAll(noteStatus);
-
-        // 수신자들에게 웹소켓 알림 전송
-        for (Employee receiver : receivers) {
-            messagingTemplate.convertAndSend("/private/" + receiver.getId(), "새로운 쪽지를 수신하였습니다.");
-        }
+        // 쪽지와 수신자별 상태를 배치로 저장하고, 수신 알림은 비동기로 전송
+        noteFanoutService.send(note, addNote.getReceiverIds());
 
         // 처리 성공 203 응답
         return ResponseEntity.status(203).body(null);
@@ -128,47 +87,51 @@ public class NoteController {
     @GetMapping("/inBox")
     public ResponseEntity<?> getReceiveNote(@RequestAttribute String subject) {
 
-        // 로그인한 사원 정보 조회 (없으면 401 Unauthorized)
-        Employee subjectEmployee = employeeRepository.findById(subject)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "미인증 상태"));
-
-        // 받은 쪽지 상태 목록 조회 (NoteStatus 기준)
-        List<NoteStatus> noteStatusList = noteStatusRepository.findAllByReceiver(subjectEmployee);
+        // 받은 쪽지 목록 조회 (수신자 정보는 제외하고 보낸 사원은 ID와 이름만)
+        List<ReceivedNote> noteStatusList = noteStatusRepository.findReceivedNotes(subject);
 
         // 200 OK + 받은 쪽지 상태 리스트 반환
         return ResponseEntity.status(200).body(noteStatusList);
     }
 
 
+    // 읽지 않은 쪽지 수 조회 API ===========================================================
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(@RequestAttribute String subject) {
+
+        // DB 조회 없이 메모리에 유지 중인 카운트 반환
+        return ResponseEntity.status(200).body(Map.of("unreadCount", unreadNoteCounter.get(subject)));
+    }
+
+
     // 보낸 쪽지 목록 조회 API ===========================================================
     @GetMapping("/outBox")
-    public ResponseEntity<?> getSendNote(@RequestAttribute String subject) {
-
-        // 로그인한 사원 정보 조회 (없으면 401 Unauthorized)
-        Employee subjectEmployee = employeeRepository.findById(subject)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.UNAUTHORIZED,
-                        "미인증 상태")
-                );
+    public ResponseEntity<?> getSendNote(@RequestAttribute String subject,
+                                         @RequestParam(name = "p") Optional<Integer> p,
+                                         @RequestParam(name = "size") Optional<Integer> size) {
 
-        // 보낸 쪽지들 전체 조회 (Note 테이블에서 sender가 나인 것들)
-        List<Note> sendNotes = noteRepository.findAllBySender(subjectEmployee);
+        int pageNumber = Math.max(p.orElse(1), 1);
+        int pageSize = Math.min(Math.max(size.orElse(20), 1), 100); // 1 ~ 100개로 제한
 
-        // 해당 쪽지들에 대한 상태 정보들 조회 (NoteStatus 테이블에서 Note가 포함된 것들)
-        List<NoteStatus> sendNoteStatus = noteStatusRepository.findAllByNoteIn(sendNotes);
+        // 보낸 쪽지를 쪽지당 한 건씩 수신 확인 집계와 함께 조회
+        // (수신자별 NoteStatus 를 모두 내려주지 않으므로 수신자가 많아도 응답 크기가 일정함)
+        Page<SentNoteSummary> sendNotes =
+                noteRepository.findSentSummaries(subject, PageRequest.of(pageNumber - 1, pageSize));
 
         // 200 OK + 보낸 쪽지 목록 반환
-        return ResponseEntity.status(200).body(sendNoteStatus);
+        return ResponseEntity.status(200).body(sendNotes.getContent());
     }
 
 
     // 쪽지 상태 변경 API ===========================================================
     @PutMapping("/status/{id}")
+    @Transactional
     public ResponseEntity<?> putStatusHandle(@RequestAttribute String subject,
                                              @PathVariable Long id) {
 
         // 전달받은 ID로 쪽지의 상태 정보 조회
-        Optional<NoteStatus> optionalNoteStatus = noteStatusRepository.findById(id);
+        // (응답과 알림에 필요한 쪽지 / 보낸 사원까지 한 번에 조회)
+        Optional<NoteStatus> optionalNoteStatus = noteStatusRepository.findWithNoteById(id);
 
         // 존재하지 않는 ID일 경우 404 NOT FOUND 에러
         if (optionalNoteStatus.isEmpty()) {
@@ -185,23 +148,41 @@ public class NoteController {
 
         // 아직 읽지 않은 쪽지일 경우
         if (!noteStatus.getIsRead()) {
-            // 읽음 여부 true로 변경
-            noteStatus.setIsRead(true);
-            // 읽은 시각 기록
-            noteStatus.setReadAt(LocalDateTime.now());
+            LocalDateTime readAt = LocalDateTime.now();
 
-            // 상태 정보 저장
-            noteStatusRepository.save(noteStatus);
+            // 읽지 않은 상태일 때만 읽음 처리 (같은 쪽지를 동시에 읽음 처리하면 한 요청만 성공)
+            if (noteStatusRepository.markRead(id, readAt) == 0) {
+                // 다른 요청이 먼저 읽음 처리함 -> 카운트 감소 / 알림 없이 현재 상태 응답
+                NoteStatus current = noteStatusRepository.findWithNoteById(id).orElseThrow();
+                return ResponseEntity.status(200).body(ReceivedNote.from(current));
+            }
 
-            // 보낸 사람에게 웹소켓 알림 전송
-            messagingTemplate.convertAndSend(
-                    "/private/" + noteStatus.getNote().getSender().getId(),  // 알림 받을 사람의 개인 채널
-                    subject + "가 당신이 보낸 쪽지를 확인하였습니다."  // 알림 내용
-            );
+            // 응답용으로 변경된 값 반영 (영속성 컨텍스트에서 분리된 상태라 다시 저장되지 않음)
+            noteStatus.setIsRead(true);
+            noteStatus.setReadAt(readAt);
+
+            String senderId = noteStatus.getNote().getSender().getId();
+
+            // 커밋이 완료된 후에만 카운트 감소 / 알림 전송 (롤백되면 카운트가 어긋나지 않도록)
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    // 읽지 않은 쪽지 수 감소 (본인 개인 채널로 변경된 값 전송)
+                    unreadNoteCounter.decrement(subject);
+
+                    // 보낸 사람에게 웹소켓 알림 전송 (짧은 시간 안에 여러 건이면 묶어서 전송)
+                    notificationCoalescer.submit(
+                            "/private/" + senderId,  // 알림 받을 사람의 개인 채널
+                            "note.read",             // 알림 종류 (읽음 확인끼리만 묶음)
+                            subject + "가 당신이 보낸 쪽지를 확인하였습니다.",  // 알림 내용
+                            (count) -> "보낸 쪽지 " + count + "건이 확인되었습니다."
+                    );
+                }
+            });
         }
 
-        // 읽음 처리된 NoteStatus 정보를 응답으로 반환 (200 OK)
-        return ResponseEntity.status(200).body(noteStatus);
+        // 읽음 처리된 쪽지 정보를 응답으로 반환 (200 OK)
+        return ResponseEntity.status(200).body(ReceivedNote.from(noteStatus));
     }
 
     // 받은 쪽지 삭제 API ===================================================
@@ -209,11 +190,8 @@ public class NoteController {
     public ResponseEntity<?> deleteNote(@RequestAttribute String subject,
                                         @RequestBody Long id) {
 
-        Employee employee = employeeRepository.findById(subject)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "미인증 상태"));
-
-        // 받은 쪽지 상태 목록 조회 (NoteStatus 기준)
-        List<NoteStatus> noteStatusList = noteStatusRepository.findAllByReceiver(employee);
+        // 받은 쪽지 목록 조회 (수신자 정보는 제외하고 보낸 사원은 ID와 이름만)
+        List<ReceivedNote> noteStatusList = noteStatusRepository.findReceivedNotes(subject);
 
         // 200 OK + 받은 쪽지 상태 리스트 반환
         return ResponseEntity.status(200).body(noteStatusList);
@@ -0,0 +1,28 @@
+package org.codenova.groupwareback.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.codenova.groupwareback.service.PresenceRegistry;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@CrossOrigin
+@RestController
+@RequestMapping("/api/presence")
+@RequiredArgsConstructor
+public class PresenceController {
+
+    private final PresenceRegistry presenceRegistry;
+
+    // 현재 접속 중인 사원 목록 API ========================================
+    @GetMapping
+    public ResponseEntity<List<String>> getPresenceHandle() {
+
+        // 웹소켓 세션 기준으로 접속 중인 사원 ID 목록 반환
+        return ResponseEntity.status(200).body(presenceRegistry.snapshot());
+    }
+}
@@ -5,7 +5,8 @@ import lombok.RequiredArgsConstructor;
 import org.codenova.groupwareback.entity.Employee;
 import org.codenova.groupwareback.repository.EmployeeRepository;
 import org.codenova.groupwareback.request.ChangePassword;
-import org.mindrot.jbcrypt.BCrypt;
+import org.codenova.groupwareback.service.PasswordHasher;
+import org.codenova.groupwareback.service.PrincipalCache;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
@@ -20,6 +21,8 @@ import java.util.Optional;
 public class PrivateController {
 
     private final EmployeeRepository employeeRepository;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
 
     // 비밀번호 변경 API
     // REST 설계 원칙에 따라 정보 수정은 PUT 또는 PATCH를 사용 (대부분 PUT 사용)
@@ -51,12 +54,13 @@ public class PrivateController {
         Employee employee = optionalEmployee.get();
 
         // 기존 비밀번호가 DB에 저장된 비밀번호와 다르면 403 Forbidden
-        if (!BCrypt.checkpw(changePassword.getOldPassword(), employee.getPassword())) {
+        // (BCrypt 작업은 전용 스레드 풀에서 처리, 대기열이 가득 차면 503)
+        if (!passwordHasher.check(changePassword.getOldPassword(), employee.getPassword())) {
             return ResponseEntity.status(403).body(null);
         }
 
         // 새 비밀번호를 bcrypt로 암호화해서 저장
-        employee.setPassword(BCrypt.hashpw(changePassword.getNewPassword(), BCrypt.gensalt()));
+        employee.setPassword(passwordHasher.hash(changePassword.getNewPassword()));
 
         // 계정을 활성화 상태로 설정
         employee.setActive("Y");
@@ -64,6 +68,9 @@ public class PrivateController {
         // DB에 변경 사항 저장
         employeeRepository.save(employee);
 
+        // 캐시된 인증 사용자 정보 무효화 (활성 상태 변경 반영)
+        principalCache.evict(employee.getId());
+
         // 새 데이터가 있는 건 아니므로 203 반환
         return ResponseEntity.status(203).body(null);
     }
@@ -17,7 +17,7 @@ public class Board {
     @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT 전략 (DB가 자동 생성)
     private Long id;  // 게시글 고유 ID
 
-    @ManyToOne  // 다대일 관계 : 여러 게시글이 한 명의 작성자(Employee)에 속함
+    @ManyToOne(fetch = FetchType.LAZY)  // 다대일 관계 : 여러 게시글이 한 명의 작성자(Employee)에 속함
     @JoinColumn(name = "writer_id") // 외래 키 컬럼 이름 설정 (DB에 생성될 실제 컬럼명)
     private Employee writer;  // 게시글 작성자 정보
 
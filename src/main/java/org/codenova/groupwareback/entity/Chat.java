@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity  // JPA가 관리하는 엔티티 클래스임을 명시
+// 부서별 채팅을 id 범위로 조회하기 위한 복합 인덱스 (운영 DB 에는 db/migration/001_chat_department_index.sql 로 생성)
+@Table(indexes = @Index(name = "idx_chat_department_id", columnList = "department_id, id"))
 @Setter
 @Getter
 @NoArgsConstructor
@@ -11,14 +13,16 @@ import lombok.*;
 @Builder
 public class Chat {
 
+    // 바로 저장(sync)할 때는 DB 가 번호 발급 (여러 서버에서 저장해도 한 곳에서 순서대로 발급되므로 ?since= 조회가 누락 없이 동작)
+    // write-behind 저장은 DB 저장 전에 번호가 필요하므로 JDBC 로 serial 테이블에서 발급한 번호를 직접 지정 (ChatIngestor)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // AUTO_INCREMENT 전략 (DB가 자동 생성)
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Department department;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Employee talker;
 
     private String message;
@@ -1,6 +1,8 @@
 package org.codenova.groupwareback.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -9,6 +11,7 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})  // 참조 프록시(getReferenceById) 직렬화 시 내부 필드 제외
 @Setter
 @Getter
 @NoArgsConstructor
@@ -27,7 +30,7 @@ public class Employee {
 
     private LocalDate hireDate;
 
-    @ManyToOne   // 다대일 관계
+    @ManyToOne(fetch = FetchType.LAZY)   // 다대일 관계 (지연 로딩, 필요한 조회에서만 함께 가져옴)
     @JoinColumn(name = "department_id")
     private Department department;
 
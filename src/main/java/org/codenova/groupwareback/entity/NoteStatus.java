@@ -13,14 +13,24 @@ import java.time.LocalDateTime;
 @Builder
 public class NoteStatus {
 
+    // IDENTITY 전략은 JDBC 배치 insert 가 불가능하므로 serial 테이블 기반 TABLE 전략 사용
+    // 한 번에 100개씩 번호를 할당받아 대량 수신자 insert 를 배치로 처리
+    // pooled-lo 방식 (application.properties) : 저장된 값 V 에서 V+1 ~ V+100 을 발급하고 V+100 을 저장
+    // 운영 DB 초기값은 db/migration/002_note_status_serial.sql 참고
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "note_status_id")
+    @TableGenerator(name = "note_status_id",
+            table = "serial",
+            pkColumnName = "ref",
+            valueColumnName = "last_number",
+            pkColumnValue = "note_status",
+            allocationSize = 100)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Employee receiver;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Note note;
 
     private Boolean isRead;
@@ -3,20 +3,53 @@ package org.codenova.groupwareback.interceptor;
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.codenova.groupwareback.service.PrincipalCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
 // 요청 전에 JWT 인증을 검사하는 인터셉터
 @Component
 public class AuthInterceptor implements HandlerInterceptor {
 
+    // JWT 검증기 (HMAC256 + 비밀 키, 발급자 일치 여부 포함)
+    // 요청마다 만들지 않고 애플리케이션 시작 시 한 번만 생성해서 재사용 (스레드 안전)
+    private final JWTVerifier verifier;
+
+    // 이미 검증이 끝난 토큰 -> subject 캐시
+    // 같은 토큰으로 다시 요청하면 디코딩/서명 검증 없이 바로 subject 를 꺼냄
+    private final Cache<String, String> verifiedTokens;
+
+    // 사원 ID -> 인증 사용자 스냅샷 캐시
+    private final PrincipalCache principalCache;
+
+    // 캐시 적중 / 미적중 횟수
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
     // JWT 검증용 비밀키 (application.yml에 정의된 값 주입)
-    @Value("${secret}")
-    private String secret;
+    public AuthInterceptor(@Value("${secret}") String secret,
+                           @Value("${auth.token-cache.max-size:10000}") long maxSize,
+                           @Value("${auth.token-cache.ttl:10m}") Duration ttl,
+                           PrincipalCache principalCache) {
+        this.principalCache = principalCache;
+        this.verifier = JWT.require(Algorithm.HMAC256(secret))
+                .withIssuer("groupware")
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
 
     // 컨트롤러 실행 전에 실행되는 메서드
     @Override
@@ -24,8 +57,6 @@ public class AuthInterceptor implements HandlerInterceptor {
                              HttpServletResponse response,
                              Object handler) throws Exception {
 
-        System.out.println("AuthInterceptor.preHandle() called");
-
         // OPTIONS 요청은 검사 없이 통과
         if (request.getMethod().equals("OPTIONS")) {
             return true;
@@ -41,30 +72,63 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
 
         // 토큰 추출
-        String token = authorization.replace("Bearer ", "");
+        String token = authorization.substring("Bearer ".length());
 
-        // JWT 검증기를 생성 (HMAC256 + 비밀 키, 발급자 일치 여부 포함)
-        try {
-            JWTVerifier verifier = JWT.require(Algorithm.HMAC256(secret))
-                    .withIssuer("groupware")
-                    .build();
+        // 토큰 검증 후 JWT에 저장된 사용자 식별자(subject) 추출
+        String subject = resolveSubject(token);
+
+        // 검증 실패 시 401
+        if (subject == null) {
+            response.sendError(401);
+            return false;
+        }
+
+        // 토큰은 유효하지만 존재하지 않는 사원이면 401
+        AuthPrincipal principal = principalCache.get(subject);
+        if (principal == null) {
+            response.sendError(401);
+            return false;
+        }
 
+        // 사용자 ID와 사용자 정보 스냅샷을 request 객체에 저장
+        request.setAttribute("subject", subject);
+        request.setAttribute("principal", principal);
+
+        // 인증 성공 시 요청 계속 진행
+        return true;
+    }
+
+    // 토큰을 검증하고 subject 를 반환 (검증 실패 시 null)
+    public String resolveSubject(String token) {
+        String cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
+        try {
             // 토큰 검증 및 디코딩
             DecodedJWT jwt = verifier.verify(token);
-
-            // JWT에 저장된 사용자 식별자(subject) 추출
             String subject = jwt.getSubject();
+            if (subject == null) {
+                return null;
+            }
 
-            // 사용자 ID를 request 객체에 저장
-            request.setAttribute("subject", subject);
+            // 검증에 성공한 토큰만 캐시에 저장
+            verifiedTokens.put(token, subject);
+            return subject;
 
-            // 인증 성공 시 요청 계속 진행
-            return true;
-
-        } catch (Exception e) {
-            // 검증 실패 시 401
-            response.sendError(401);
-            return false;
+        } catch (JWTVerificationException e) {
+            return null;
         }
     }
+
+    public long getCacheHits() {
+        return cacheHits.sum();
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses.sum();
+    }
 }
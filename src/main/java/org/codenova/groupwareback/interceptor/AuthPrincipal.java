@@ -0,0 +1,26 @@
+package org.codenova.groupwareback.interceptor;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.codenova.groupwareback.entity.Employee;
+
+// 인증된 사용자 정보 스냅샷 (변경 불가)
+// AuthInterceptor 가 request 의 "principal" 속성으로 넣어주므로 컨트롤러에서 사원 조회 없이 사용
+@Getter
+@AllArgsConstructor
+public class AuthPrincipal {
+    private final String id;             // 사원 ID
+    private final String name;           // 사원 이름
+    private final Integer departmentId;  // 소속 부서 ID
+    private final String position;       // 직책
+    private final String active;         // 재직(활성) 상태
+
+    public static AuthPrincipal from(Employee employee) {
+        return new AuthPrincipal(
+                employee.getId(),
+                employee.getName(),
+                employee.getDepartment() == null ? null : employee.getDepartment().getId(),
+                employee.getPosition(),
+                employee.getActive());
+    }
+}
@@ -0,0 +1,149 @@
+package org.codenova.groupwareback.interceptor;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.codenova.groupwareback.config.RateLimitProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// 사원별 쓰기 요청 수 제한 인터셉터 (AuthInterceptor 다음에 실행되어 subject 를 사용)
+// 규칙(rate-limit.rules.*)에 맞는 요청만 검사하고, 토큰이 없으면 429 + Retry-After 응답
+// 경로는 컨트롤러 매핑과 같은 방식(PathPattern)으로 비교 (;x=1 같은 경로 파라미터, %인코딩으로 우회되지 않도록)
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final LongSupplier clock;
+
+    // 규칙 이름 -> 규칙 (토큰 1개가 채워지는 간격 포함)
+    private final Map<String, Limit> limits = new LinkedHashMap<>();
+
+    // "사원 ID 규칙 이름" -> 토큰 정보 (요청이 없는 사원은 idle-timeout 후 제거)
+    private final Cache<String, Bucket> buckets;
+
+    @Autowired
+    public RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    RateLimitInterceptor(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxBuckets())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+
+        properties.getRules().forEach((name, rule) -> limits.put(name, new Limit(name, rule,
+                Counter.builder("rate-limit.rejected")
+                        .tag("rule", name)
+                        .description("요청 수 제한으로 거절된 요청 수")
+                        .register(meterRegistry))));
+
+        Gauge.builder("rate-limit.buckets", buckets, Cache::estimatedSize)
+                .description("메모리에 유지 중인 토큰 정보 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws Exception {
+
+        // 인증되지 않은 요청은 AuthInterceptor 에서 이미 거절됨
+        String subject = (String) request.getAttribute("subject");
+        if (subject == null) {
+            return true;
+        }
+
+        Limit limit = findLimit(request.getMethod(), lookupPath(request));
+        if (limit == null) {
+            return true;
+        }
+
+        Bucket bucket = buckets.get(subject + " " + limit.name, (key) -> new Bucket());
+        long waitNanos = bucket.tryAcquire(clock.getAsLong(), limit.intervalNanos, limit.burstNanos);
+        if (waitNanos <= 0) {
+            return true;
+        }
+
+        // 다음 토큰이 채워질 때까지 남은 시간(초, 올림)
+        limit.rejected.increment();
+        response.setHeader("Retry-After", String.valueOf(TimeUnit.NANOSECONDS.toSeconds(waitNanos - 1) + 1));
+        response.sendError(429);
+        return false;
+    }
+
+    private Limit findLimit(String method, PathContainer path) {
+        for (Limit limit : limits.values()) {
+            if (limit.method.equalsIgnoreCase(method) && limit.pattern.matches(path)) {
+                return limit;
+            }
+        }
+        return null;
+    }
+
+    // DispatcherServlet 이 핸들러를 찾을 때 분석해 둔 경로 (context path 제외)
+    private PathContainer lookupPath(HttpServletRequest request) {
+        if (!ServletRequestPathUtils.hasParsedRequestPath(request)) {
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+        return ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication();
+    }
+
+    private static class Limit {
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final long intervalNanos;  // 토큰 1개가 채워지는 간격
+        private final long burstNanos;     // 한 번에 사용할 수 있는 토큰(capacity) 만큼의 시간
+        private final Counter rejected;
+
+        private Limit(String name, RateLimitProperties.Rule rule, Counter rejected) {
+            this.name = name;
+            this.method = rule.getMethod();
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.getPattern());
+            this.intervalNanos = Math.max(1, rule.getPeriod().toNanos() / rule.getCapacity());
+            this.burstNanos = intervalNanos * rule.getCapacity();
+            this.rejected = rejected;
+        }
+    }
+
+    /*
+        토큰 버킷 (GCRA 방식, 락 없이 CAS 한 번으로 처리)
+        토큰 개수 대신 "버킷이 다시 가득 차는 시각(tat)" 하나만 저장한다.
+        요청마다 tat 를 interval 만큼 뒤로 미루고, tat 가 현재 시각보다 burst 이상 앞서면 토큰이 없는 상태
+     */
+    static class Bucket {
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        // 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns) 반환
+        long tryAcquire(long now, long intervalNanos, long burstNanos) {
+            while (true) {
+                long current = tat.get();
+                long next = Math.max(current, now) + intervalNanos;
+                long wait = next - now - burstNanos;
+                if (wait > 0) {
+                    return wait;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
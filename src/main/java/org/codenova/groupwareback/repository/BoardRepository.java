@@ -1,9 +1,48 @@
 package org.codenova.groupwareback.repository;
 
 import org.codenova.groupwareback.entity.Board;
+import org.codenova.groupwareback.response.BoardDetail;
+import org.codenova.groupwareback.response.BoardSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BoardRepository extends JpaRepository<Board, Long> {
-}
\ No newline at end of file
+
+    // 페이지 번호 방식 목록 조회 (최신 글 순)
+    @Query("select new org.codenova.groupwareback.response.BoardSummary(b.id, b.title, w.name, b.wroteAt, b.viewCount) " +
+            "from Board b left join b.writer w " +
+            "order by b.id desc")
+    public List<BoardSummary> findSummaries(Pageable pageable);
+
+    // 커서(keyset) 방식 목록 조회
+    // after 보다 작은 id 의 게시글을 id 내림차순으로 조회 (PK 인덱스 범위 탐색, count 쿼리 없음)
+    @Query("select new org.codenova.groupwareback.response.BoardSummary(b.id, b.title, w.name, b.wroteAt, b.viewCount) " +
+            "from Board b left join b.writer w " +
+            "where b.id < :after " +
+            "order by b.id desc")
+    public List<BoardSummary> findSummariesBefore(@Param("after") Long after, Pageable pageable);
+
+    // 지정한 ID 목록의 요약 정보 조회 (검색 결과 표시용)
+    @Query("select new org.codenova.groupwareback.response.BoardSummary(b.id, b.title, w.name, b.wroteAt, b.viewCount) " +
+            "from Board b left join b.writer w " +
+            "where b.id in :ids")
+    public List<BoardSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // 게시글 상세 조회 (작성자는 ID와 이름만)
+    @Query("select new org.codenova.groupwareback.response.BoardDetail(b.id, b.title, b.content, w.id, w.name, b.viewCount, b.wroteAt) " +
+            "from Board b left join b.writer w " +
+            "where b.id = :id")
+    public Optional<BoardDetail> findDetailById(@Param("id") Long id);
+
+    // 검색 색인 생성용 [id, title, content] 조회 (id 오름차순, after 이후부터)
+    @Query("select b.id, b.title, b.content from Board b where b.id > :after order by b.id")
+    public List<Object[]> findSearchRowsAfter(@Param("after") Long after, Pageable pageable);
+
+}
@@ -2,12 +2,42 @@ package org.codenova.groupwareback.repository;
 
 import org.codenova.groupwareback.entity.Chat;
 import org.codenova.groupwareback.entity.Department;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
+    // 보낸 사원을 한 번에 함께 조회 (행마다 사원 조회가 추가로 발생하지 않도록)
+    @EntityGraph(attributePaths = {"talker"})
     public List<Chat> findAllByDepartmentOrderById(Department department);
 
+    // 부서의 최근 채팅 (최신순, 보낸 사원은 ID와 이름만)
+    @Query("select new org.codenova.groupwareback.response.ChatMessage(c.id, d.id, t.id, t.name, c.message) " +
+            "from Chat c join c.department d left join c.talker t " +
+            "where d.id = :departmentId " +
+            "order by c.id desc")
+    public List<ChatMessage> findRecentMessages(@Param("departmentId") Integer departmentId, Pageable pageable);
+
+    // 특정 id 이전의 부서 채팅 (최신순, 이전 대화 더보기용 keyset 조회)
+    @Query("select new org.codenova.groupwareback.response.ChatMessage(c.id, d.id, t.id, t.name, c.message) " +
+            "from Chat c join c.department d left join c.talker t " +
+            "where d.id = :departmentId and c.id < :before " +
+            "order by c.id desc")
+    public List<ChatMessage> findMessagesBefore(@Param("departmentId") Integer departmentId,
+                                                @Param("before") Long before,
+                                                Pageable pageable);
+
+    // 특정 id 이후의 부서 채팅 목록 (재접속 시 놓친 채팅만 가져오기 위함)
+    @Query("select new org.codenova.groupwareback.response.ChatMessage(c.id, d.id, t.id, t.name, c.message) " +
+            "from Chat c join c.department d left join c.talker t " +
+            "where d.id = :departmentId and c.id > :since " +
+            "order by c.id")
+    public List<ChatMessage> findMessagesSince(@Param("departmentId") Integer departmentId, @Param("since") Long since);
+
 }
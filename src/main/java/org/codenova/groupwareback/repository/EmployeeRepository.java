@@ -1,9 +1,34 @@
 package org.codenova.groupwareback.repository;
 
 import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.response.EmployeeProfile;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, String> {
+
+    // 로그인용 단건 조회 (응답에 필요한 부서까지 함께 조회)
+    @EntityGraph(attributePaths = {"department"})
+    public Optional<Employee> findWithDepartmentById(String id);
+
+    // 사원 목록 (비밀번호 제외, 부서는 ID와 이름만)
+    @Query("select new org.codenova.groupwareback.response.EmployeeProfile(" +
+            "e.id, e.name, e.email, e.hireDate, d.id, d.name, e.position, e.active) " +
+            "from Employee e left join e.department d " +
+            "order by e.id")
+    public List<EmployeeProfile> findProfiles();
+
+    // 사원 상세 (비밀번호 제외)
+    @Query("select new org.codenova.groupwareback.response.EmployeeProfile(" +
+            "e.id, e.name, e.email, e.hireDate, d.id, d.name, e.position, e.active) " +
+            "from Employee e left join e.department d " +
+            "where e.id = :id")
+    public Optional<EmployeeProfile> findProfileById(@Param("id") String id);
 }
@@ -2,7 +2,12 @@ package org.codenova.groupwareback.repository;
 
 import org.codenova.groupwareback.entity.Employee;
 import org.codenova.groupwareback.entity.Note;
+import org.codenova.groupwareback.response.SentNoteSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -10,4 +15,15 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 
     public List<Note> findAllBySender(Employee sender);
 
+    // 보낸 쪽지를 한 건씩, 수신자 수 / 읽은 수 / 마지막 읽은 시각과 함께 조회 (group by 조인 쿼리 한 번)
+    @Query(value = "select new org.codenova.groupwareback.response.SentNoteSummary(" +
+            "n.id, n.content, n.sendAt, count(s), " +
+            "sum(case when s.isRead = true then 1 else 0 end), max(s.readAt)) " +
+            "from Note n left join NoteStatus s on s.note = n " +
+            "where n.sender.id = :senderId " +
+            "group by n.id, n.content, n.sendAt " +
+            "order by n.id desc",
+            countQuery = "select count(n) from Note n where n.sender.id = :senderId")
+    public Page<SentNoteSummary> findSentSummaries(@Param("senderId") String senderId, Pageable pageable);
+
 }
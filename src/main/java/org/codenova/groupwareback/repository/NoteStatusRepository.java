@@ -3,16 +3,49 @@ package org.codenova.groupwareback.repository;
 import org.codenova.groupwareback.entity.Employee;
 import org.codenova.groupwareback.entity.Note;
 import org.codenova.groupwareback.entity.NoteStatus;
+import org.codenova.groupwareback.response.ReceivedNote;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface NoteStatusRepository extends JpaRepository<NoteStatus, Long> {
 
+    // 연관 엔티티는 지연 로딩이므로 목록 조회 시 쪽지와 보낸 사원을 한 번에 가져옴
+    @EntityGraph(attributePaths = {"note", "note.sender"})
     public List<NoteStatus> findAllByReceiver(Employee receiver);
 
+    @EntityGraph(attributePaths = {"note", "note.sender"})
     public List<NoteStatus> findAllByReceiverAndIsRead(Employee employee, Boolean isRead);
 
+    @EntityGraph(attributePaths = {"receiver"})
     public List<NoteStatus> findAllByNoteIn(List<Note> notes);
 
+    // 읽음 처리용 단건 조회 (응답과 알림에 필요한 쪽지 / 보낸 사원까지 함께 조회)
+    @EntityGraph(attributePaths = {"note", "note.sender"})
+    public Optional<NoteStatus> findWithNoteById(Long id);
+
+    // 받은 쪽지 목록 (쪽지 본문과 보낸 사원 ID/이름만 조회)
+    @Query("select new org.codenova.groupwareback.response.ReceivedNote(" +
+            "s.id, n.id, n.content, n.sendAt, e.id, e.name, s.isRead, s.readAt) " +
+            "from NoteStatus s join s.note n left join n.sender e " +
+            "where s.receiver.id = :receiverId " +
+            "order by s.id desc")
+    public List<ReceivedNote> findReceivedNotes(@Param("receiverId") String receiverId);
+
+    // 아직 읽지 않은 경우에만 읽음 처리 (변경된 행 수 반환, 동시에 읽음 처리하면 한 요청만 1)
+    // 이미 조회한 엔티티가 변경 전 값으로 다시 저장되지 않도록 실행 후 영속성 컨텍스트를 비움
+    @Modifying(clearAutomatically = true)
+    @Query("update NoteStatus s set s.isRead = true, s.readAt = :readAt where s.id = :id and s.isRead = false")
+    public int markRead(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    // 수신자별 읽지 않은 쪽지 수 [receiverId, count]
+    @Query("select s.receiver.id, count(s) from NoteStatus s where s.isRead = false group by s.receiver.id")
+    public List<Object[]> countUnreadGroupByReceiver();
+
 }
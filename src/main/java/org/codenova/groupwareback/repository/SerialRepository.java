@@ -1,7 +1,9 @@
 package org.codenova.groupwareback.repository;
 
+import jakarta.persistence.LockModeType;
 import org.codenova.groupwareback.entity.Serial;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,4 +13,8 @@ public interface SerialRepository extends JpaRepository<Serial, Integer> {
 
     public Optional<Serial> findByRef(String ref);
 
+    // select ... for update : 번호 구간을 예약하는 동안 다른 트랜잭션의 접근을 막음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    public Optional<Serial> findWithLockByRef(String ref);
+
 }
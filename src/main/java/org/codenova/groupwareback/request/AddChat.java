@@ -1,6 +1,8 @@
 package org.codenova.groupwareback.request;
 
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -8,6 +10,8 @@ import lombok.Setter;
 @Setter
 public class AddChat {
 
+    @NotBlank
+    @Size(max = 1000)  // chat.message 컬럼 길이 (초과하면 DB 저장 시 실패)
     private String message;
 
 }
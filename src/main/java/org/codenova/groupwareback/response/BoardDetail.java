@@ -0,0 +1,21 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시글 상세 정보 (작성자는 ID와 이름만 포함)
+@Setter
+@Getter
+@AllArgsConstructor
+public class BoardDetail {
+    private Long id;                 // 게시글 ID
+    private String title;            // 제목
+    private String content;          // 본문
+    private String writerId;         // 작성자 ID
+    private String writerName;       // 작성자 이름
+    private Integer viewCount;       // 조회수
+    private LocalDateTime wroteAt;   // 작성 시각
+}
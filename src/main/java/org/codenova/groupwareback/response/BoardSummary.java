@@ -0,0 +1,19 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록용 요약 정보 (본문 content 컬럼은 조회하지 않음)
+@Setter
+@Getter
+@AllArgsConstructor
+public class BoardSummary {
+    private Long id;                 // 게시글 ID
+    private String title;            // 제목
+    private String writerName;       // 작성자 이름
+    private LocalDateTime wroteAt;   // 작성 시각
+    private Integer viewCount;       // 조회수
+}
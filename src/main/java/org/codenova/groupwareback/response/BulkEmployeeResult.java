@@ -0,0 +1,28 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+// 사원 일괄 등록 결과 (전체 건수 + 행별 처리 결과)
+@Setter
+@Getter
+@AllArgsConstructor
+public class BulkEmployeeResult {
+    private int total;         // 읽은 행 수 (헤더 / 빈 줄 제외)
+    private int created;       // 등록된 사원 수
+    private int rejected;      // 유효성 검사 실패 또는 저장 실패 수
+    private List<Row> rows;    // 행별 결과 (입력 순서)
+
+    @Setter
+    @Getter
+    @AllArgsConstructor
+    public static class Row {
+        private int line;             // 입력 파일의 줄 번호 (1부터)
+        private String status;        // created / invalid / failed
+        private String id;            // 발급된 사원 ID (created 인 경우만)
+        private List<String> errors;  // 실패 사유
+    }
+}
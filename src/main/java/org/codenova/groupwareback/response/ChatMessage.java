@@ -0,0 +1,19 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 채팅 목록 / 실시간 전송용 채팅 정보
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor  // 다른 서버에서 전달받은 채팅 JSON 변환용
+public class ChatMessage {
+    private Long id;               // 채팅 ID
+    private Integer departmentId;  // 부서 ID
+    private String talkerId;       // 보낸 사원 ID
+    private String talkerName;     // 보낸 사원 이름
+    private String message;        // 메시지 내용
+}
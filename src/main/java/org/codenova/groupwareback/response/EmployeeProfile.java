@@ -0,0 +1,35 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.codenova.groupwareback.entity.Employee;
+
+import java.time.LocalDate;
+
+// 사원 정보 응답 (비밀번호 해시 제외)
+@Setter
+@Getter
+@AllArgsConstructor
+public class EmployeeProfile {
+    private String id;               // 사원 ID
+    private String name;             // 이름
+    private String email;            // 이메일
+    private LocalDate hireDate;      // 입사일
+    private Integer departmentId;    // 부서 ID
+    private String departmentName;   // 부서 이름
+    private String position;         // 직책
+    private String active;           // 재직(활성) 상태
+
+    public static EmployeeProfile from(Employee employee) {
+        return new EmployeeProfile(
+                employee.getId(),
+                employee.getName(),
+                employee.getEmail(),
+                employee.getHireDate(),
+                employee.getDepartment() == null ? null : employee.getDepartment().getId(),
+                employee.getDepartment() == null ? null : employee.getDepartment().getName(),
+                employee.getPosition(),
+                employee.getActive());
+    }
+}
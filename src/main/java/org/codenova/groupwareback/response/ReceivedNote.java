@@ -0,0 +1,35 @@
+package org.codenova.groupwareback.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import org.codenova.groupwareback.entity.NoteStatus;
+
+import java.time.LocalDateTime;
+
+// 받은 쪽지 정보 (보낸 사람은 ID와 이름만 포함)
+@Setter
+@Getter
+@AllArgsConstructor
+public class ReceivedNote {
+    private Long id;                 // 쪽지 상태(NoteStatus) ID
+    private Long noteId;             // 쪽지 ID
+    private String content;          // 쪽지 본문
+    private LocalDateTime sendAt;    // 보낸 시각
+    private String senderId;         // 보낸 사원 ID
+    private String senderName;       // 보낸 사원 이름
+    private Boolean isRead;          // 읽음 여부
+    private LocalDateTime readAt;    // 읽은 시각
+
+    public static ReceivedNote from(NoteStatus noteStatus) {
+        return new ReceivedNote(
+                noteStatus.getId(),
+                noteStatus.getNote().getId(),
+                noteStatus.getNote().getContent(),
+                noteStatus.getNote().getSendAt(),
+                noteStatus.getNote().getSender().getId(),
+                noteStatus.getNote().getSender().getName(),
+                noteStatus.getIsRead(),
+                noteStatus.getReadAt());
+    }
+}
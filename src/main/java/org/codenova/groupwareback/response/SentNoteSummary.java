@@ -0,0 +1,28 @@
+package org.codenova.groupwareback.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 보낸 쪽지 요약 (쪽지당 한 건 + 수신 확인 집계)
+@Setter
+@Getter
+public class SentNoteSummary {
+    private Long noteId;               // 쪽지 ID
+    private String content;            // 쪽지 본문
+    private LocalDateTime sendAt;      // 보낸 시각
+    private Long recipients;           // 수신자 수
+    private Long readCount;            // 읽은 수신자 수
+    private LocalDateTime lastReadAt;  // 마지막으로 읽은 시각
+
+    public SentNoteSummary(Long noteId, String content, LocalDateTime sendAt,
+                           Long recipients, Long readCount, LocalDateTime lastReadAt) {
+        this.noteId = noteId;
+        this.content = content;
+        this.sendAt = sendAt;
+        this.recipients = recipients;
+        this.readCount = readCount == null ? 0L : readCount;  // 수신자가 없으면 sum 결과가 null
+        this.lastReadAt = lastReadAt;
+    }
+}
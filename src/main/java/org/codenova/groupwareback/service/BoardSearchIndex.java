@@ -0,0 +1,273 @@
+package org.codenova.groupwareback.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.repository.BoardRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+    게시글 제목/본문 검색용 메모리 역색인
+    한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않으므로 글자 2-gram 단위로 색인한다.
+    (예: "회의실 예약" -> 회의, 의실, 예약)
+    시작 시 DB 전체를 읽어 만들고, 새 글은 등록 시점에 바로 추가한다.
+ */
+@Service
+@Slf4j
+public class BoardSearchIndex {
+
+    // 제목에 포함된 단어는 본문보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 토큰 -> 해당 토큰이 들어있는 게시글 목록
+    private Map<String, Postings> index = new HashMap<>();
+    private int documentCount;
+
+    // 색인을 다시 만드는 동안 추가된 글 (교체 직전에 새 색인에도 추가, 재생성 중이 아니면 null)
+    private List<Object[]> addedWhileRebuilding;
+
+    public BoardSearchIndex(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 애플리케이션 시작 시 DB의 모든 게시글로 색인 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            addedWhileRebuilding = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<String, Postings> built = new HashMap<>();
+        int count = 0;
+        long after = 0;
+
+        while (true) {
+            List<Object[]> rows = boardRepository.findSearchRowsAfter(after, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (Object[] row : rows) {
+                after = (Long) row[0];
+                addTo(built, after, (String) row[1], (String) row[2]);
+                count++;
+            }
+            if (rows.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+        }
+        built.values().forEach(Postings::trim);
+
+        lock.writeLock().lock();
+        try {
+            // DB를 읽는 동안 등록된 글 반영 (이미 읽어온 글은 건너뜀)
+            for (Object[] added : addedWhileRebuilding) {
+                if (addTo(built, (Long) added[0], (String) added[1], (String) added[2])) {
+                    count++;
+                }
+            }
+            addedWhileRebuilding = null;
+
+            index = built;
+            documentCount = count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("게시글 검색 색인 생성 완료 : {}건, 토큰 {}개, {}ms",
+                count, built.size(), System.currentTimeMillis() - start);
+    }
+
+    // 새 글 색인 추가
+    public void add(long boardId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (addTo(index, boardId, title, content)) {
+                documentCount++;
+            }
+            if (addedWhileRebuilding != null) {
+                addedWhileRebuilding.add(new Object[]{boardId, title, content});
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어의 모든 토큰을 포함하는 게시글 ID를 점수 순으로 반환
+    public List<Long> search(String query, int offset, int limit) {
+        List<String> tokens = tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>();
+            for (String token : tokens) {
+                Postings postings = index.get(token);
+                if (postings == null) {
+                    return List.of();  // 하나라도 없는 토큰이 있으면 결과 없음
+                }
+                lists.add(postings);
+            }
+
+            // 가장 짧은 목록부터 교집합을 구함
+            lists.sort(Comparator.comparingInt((Postings postings) -> postings.size));
+            Postings smallest = lists.get(0);
+
+            List<long[]> hits = new ArrayList<>();  // [boardId, score * 1000]
+            for (int i = 0; i < smallest.size; i++) {
+                long boardId = smallest.ids[i];
+                double score = smallest.weights[i] * idf(smallest);
+                boolean matched = true;
+
+                for (int j = 1; j < lists.size(); j++) {
+                    Postings other = lists.get(j);
+                    int position = Arrays.binarySearch(other.ids, 0, other.size, boardId);
+                    if (position < 0) {
+                        matched = false;
+                        break;
+                    }
+                    score += other.weights[position] * idf(other);
+                }
+
+                if (matched) {
+                    hits.add(new long[]{boardId, (long) (score * 1000)});
+                }
+            }
+
+            // 점수 내림차순, 같으면 최신 글 우선
+            return hits.stream()
+                    .sorted(Comparator.comparingLong((long[] hit) -> hit[1]).reversed()
+                            .thenComparing(Comparator.comparingLong((long[] hit) -> hit[0]).reversed()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map((hit) -> hit[0])
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getTokenCount() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 드물게 등장하는 토큰일수록 높은 점수
+    private double idf(Postings postings) {
+        return Math.log(1.0 + (double) documentCount / postings.size);
+    }
+
+    // 이미 색인된 글이면 false
+    private static boolean addTo(Map<String, Postings> target, long boardId, String title, String content) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String token : tokenize(title)) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenize(content)) {
+            weights.merge(token, CONTENT_WEIGHT, Integer::sum);
+        }
+        boolean added = false;
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            added |= target.computeIfAbsent(entry.getKey(), (t) -> new Postings()).add(boardId, entry.getValue());
+        }
+        return added;
+    }
+
+    // 소문자/유니코드 정규화 후 글자/숫자 단위로 나누고, 각 단어를 2글자씩 잘라 토큰 생성
+    // 한 글자 단어는 그대로 토큰으로 사용
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase();
+        int[] word = new int[normalized.length()];
+        int length = 0;
+
+        int i = 0;
+        while (i <= normalized.length()) {
+            int codePoint = i < normalized.length() ? normalized.codePointAt(i) : ' ';
+            if (Character.isLetterOrDigit(codePoint)) {
+                word[length++] = codePoint;
+            } else if (length > 0) {
+                if (length == 1) {
+                    tokens.add(new String(word, 0, 1));
+                }
+                for (int k = 0; k + 1 < length; k++) {
+                    tokens.add(new String(word, k, 2));
+                }
+                length = 0;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return tokens;
+    }
+
+    // 게시글 ID(오름차순)와 가중치 목록
+    private static class Postings {
+        private long[] ids = new long[4];
+        private int[] weights = new int[4];
+        private int size;
+
+        // 같은 게시글이 이미 있으면 추가하지 않음
+        private boolean add(long boardId, int weight) {
+            if (size > 0 && ids[size - 1] >= boardId && Arrays.binarySearch(ids, 0, size, boardId) >= 0) {
+                return false;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+
+            // 대부분 ID 순서대로 추가되므로 끝에 붙이고, 아닌 경우만 정렬 위치에 삽입
+            int position = size;
+            if (size > 0 && ids[size - 1] > boardId) {
+                position = -Arrays.binarySearch(ids, 0, size, boardId) - 1;
+                System.arraycopy(ids, position, ids, position + 1, size - position);
+                System.arraycopy(weights, position, weights, position + 1, size - position);
+            }
+            ids[position] = boardId;
+            weights[position] = weight;
+            size++;
+            return true;
+        }
+
+        // 색인 생성 후 남는 배열 공간 정리
+        private void trim() {
+            ids = Arrays.copyOf(ids, size);
+            weights = Arrays.copyOf(weights, size);
+        }
+    }
+}
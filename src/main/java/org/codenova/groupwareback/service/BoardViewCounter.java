@@ -0,0 +1,86 @@
+package org.codenova.groupwareback.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    게시글 조회수 지연 반영 (write-behind)
+    조회할 때마다 UPDATE 하지 않고 게시글별 LongAdder 에 누적한 뒤,
+    일정 주기와 종료 시점에 한 번의 배치 UPDATE 로 반영한다.
+ */
+@Service
+@Slf4j
+public class BoardViewCounter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글 ID -> 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public BoardViewCounter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 증가를 맵 연산(compute) 안에서 처리해서 flush 가 항목을 제거하는 것과 겹치지 않도록 함
+    // (밖에서 증가하면 이미 제거된 LongAdder 에 더해져서 조회수가 사라질 수 있음)
+    public void increment(Long boardId) {
+        add(boardId, 1);
+    }
+
+    // 아직 반영되지 않은 조회수 (화면에 보여줄 때 DB 값에 더해서 사용)
+    public long pending(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    // 누적된 조회수를 배치 UPDATE 로 반영
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 더 이상 조회가 없는 게시글은 제거 (그 사이 증가된 경우는 남겨 둠)
+                pending.computeIfPresent(entry.getKey(), (id, adder) -> adder.sum() == 0 ? null : adder);
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate("update board set view_count = view_count + ? where id = ?", batch);
+        } catch (RuntimeException e) {
+            // 반영 실패 시 다음 주기에 다시 반영되도록 되돌림
+            for (Object[] row : batch) {
+                add((Long) row[1], (Long) row[0]);
+            }
+            log.warn("조회수 반영 실패 : {}건", batch.size(), e);
+        }
+    }
+
+    private void add(Long boardId, long delta) {
+        pending.compute(boardId, (id, adder) -> {
+            LongAdder target = adder == null ? new LongAdder() : adder;
+            target.add(delta);
+            return target;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
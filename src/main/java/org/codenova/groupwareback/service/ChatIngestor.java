@@ -0,0 +1,322 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.entity.Chat;
+import org.codenova.groupwareback.entity.Department;
+import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
+import org.codenova.groupwareback.repository.DepartmentRepository;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    채팅 저장 처리
+    chat.persistence.mode=sync         : 요청마다 바로 INSERT (기본값)
+    chat.persistence.mode=write-behind : 로컬 추가 전용 로그(ChatJournal)에 먼저 기록하고 바로 응답,
+                                         DB에는 주기적으로 모아서 배치 INSERT
+    write-behind 모드에서 서버가 비정상 종료되면 다음 시작 시 로그에 남은 채팅을 DB에 다시 저장한다.
+    채팅 ID : sync 는 DB(auto_increment)에서 발급, write-behind 는 DB 저장 전에 필요하므로 serial 테이블("chat")에서 구간 단위로 발급
+    write-behind 의 구간 발급은 서버마다 다른 구간을 쓰므로 ID 가 등록 순서와 달라짐 (?since= 조회 누락)
+    -> write-behind 는 서버 한 대에서만 사용 (cluster.relay.mode=udp 와 함께 설정하면 시작하지 않음)
+    저장할 수 없는 채팅(제약 조건 위반 등)은 한 건씩 다시 시도해서 찾아낸 뒤 로그를 남기고 제외 (chat.write-behind.dropped)
+ */
+@Service
+@Slf4j
+public class ChatIngestor {
+
+    private static final String INSERT_SQL = "insert into chat (id, department_id, talker_id, message) values (?, ?, ?, ?)";
+
+    // chat.message 컬럼 길이
+    public static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private final SerialAllocator serialAllocator;
+    private final DepartmentRepository departmentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean writeBehind;
+    private final Path journalDir;
+    private final DataSize segmentSize;
+    private final ChatJournal.Fsync fsync;
+    private final int batchSize;
+    private final int maxQueued;
+    private final boolean clustered;
+    private final Counter dropped;
+
+    // 존재가 확인된 부서 ID (채팅마다 부서를 조회하지 않도록)
+    private final Set<Integer> knownDepartments = ConcurrentHashMap.newKeySet();
+
+    // DB 저장 대기 중인 채팅 / 저장 중인 채팅
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private volatile List<Pending> inFlight = List.of();
+
+    private ChatJournal journal;
+
+    public ChatIngestor(SerialAllocator serialAllocator,
+                        DepartmentRepository departmentRepository,
+                        JdbcTemplate jdbcTemplate,
+                        EntityManager entityManager,
+                        PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${chat.persistence.mode:sync}") String mode,
+                        @Value("${chat.journal.dir:./data/chat-journal}") Path journalDir,
+                        @Value("${chat.journal.segment-size:16MB}") DataSize segmentSize,
+                        @Value("${chat.journal.fsync:always}") String fsync,
+                        @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                        @Value("${chat.write-behind.max-queued:100000}") int maxQueued,
+                        @Value("${cluster.relay.mode:loopback}") String relayMode) {
+        this.serialAllocator = serialAllocator;
+        this.departmentRepository = departmentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writeBehind = mode.equals("write-behind");
+        this.journalDir = journalDir;
+        this.segmentSize = segmentSize;
+        this.fsync = ChatJournal.Fsync.valueOf(fsync.toUpperCase());
+        this.batchSize = batchSize;
+        this.maxQueued = maxQueued;
+        this.clustered = relayMode.equals("udp");
+        this.dropped = Counter.builder("chat.write-behind.dropped")
+                .description("저장할 수 없어서 제외한 채팅 수")
+                .register(meterRegistry);
+
+        Gauge.builder("chat.write-behind.queued", queued, AtomicInteger::get)
+                .description("DB 저장 대기 중인 채팅 수")
+                .register(meterRegistry);
+    }
+
+    // 채팅 ID 발급용 serial 행 준비 (기존 채팅 ID 이후부터 발급) + 남아 있는 로그 복구
+    @PostConstruct
+    public void init() throws IOException {
+        jdbcTemplate.update("insert into serial (ref, last_number) select 'chat', 0 from dual " +
+                "where not exists (select 1 from serial where ref = 'chat')");
+        jdbcTemplate.update("update serial set last_number = " +
+                "greatest(last_number, (select coalesce(max(id), 0) from chat)) where ref = 'chat'");
+
+        if (!writeBehind) {
+            return;
+        }
+        if (clustered) {
+            throw new IllegalStateException("chat.persistence.mode=write-behind 는 서버 한 대에서만 사용할 수 있습니다. " +
+                    "(cluster.relay.mode=udp 이면 sync 로 설정)");
+        }
+
+        journal = new ChatJournal(journalDir, segmentSize.toBytes(), fsync);
+        List<ChatMessage> replayed = journal.replay();
+        if (!replayed.isEmpty()) {
+            int inserted = store(replayed);
+            log.info("채팅 로그 복구 : {}건 중 {}건 저장", replayed.size(), inserted);
+        }
+        journal.purgeReplayed();
+    }
+
+    // 채팅 저장 (write-behind 모드에서는 로그에 기록되면 바로 반환)
+    public ChatMessage post(Integer departmentId, AuthPrincipal principal, String message) {
+        // 저장할 수 없는 메시지는 로그에 기록하기 전에 거절 (400)
+        if (message == null || message.isBlank() || message.length() > MAX_MESSAGE_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "메시지는 1~" + MAX_MESSAGE_LENGTH + "자로 입력해야 합니다.");
+        }
+        requireDepartment(departmentId);
+
+        if (!writeBehind) {
+            Chat chat = transactionTemplate.execute((status) -> {
+                Chat saved = Chat.builder()
+                        .department(entityManager.getReference(Department.class, departmentId))   // 채팅이 속한 부서
+                        .talker(entityManager.getReference(Employee.class, principal.getId()))    // 채팅을 보낸 사람
+                        .message(message)                                                         // 입력한 메시지 내용
+                        .build();
+                entityManager.persist(saved);   // INSERT 후 DB 에서 발급된 ID 가 채워짐
+                return saved;
+            });
+            return new ChatMessage(chat.getId(), departmentId, principal.getId(), principal.getName(), message);
+        }
+
+        // DB 저장이 계속 실패해서 대기열이 한도를 넘으면 더 받지 않음 (503)
+        if (queued.get() >= maxQueued) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "채팅 저장이 지연되고 있습니다. 잠시 후 다시 시도하세요.");
+        }
+
+        ChatMessage chatMessage = new ChatMessage(serialAllocator.next("chat"), departmentId,
+                principal.getId(), principal.getName(), message);
+        try {
+            long segment = journal.append(chatMessage);
+            queue.add(new Pending(chatMessage, segment));
+            queued.incrementAndGet();
+        } catch (IOException e) {
+            log.error("채팅 로그 기록 실패", e);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "채팅을 저장하지 못했습니다.");
+        }
+        return chatMessage;
+    }
+
+    // 아직 DB에 저장되지 않은 부서 채팅 (최근 채팅 보관소를 DB에서 채울 때 함께 사용)
+    public List<ChatMessage> pending(Integer departmentId) {
+        List<ChatMessage> messages = new ArrayList<>();
+        // 대기열 -> 저장 중 순서로 확인해야 그 사이에 옮겨진 채팅을 놓치지 않음
+        for (Pending pending : queue) {
+            if (pending.message().getDepartmentId().equals(departmentId)) {
+                messages.add(pending.message());
+            }
+        }
+        for (Pending pending : inFlight) {
+            if (pending.message().getDepartmentId().equals(departmentId)) {
+                messages.add(pending.message());
+            }
+        }
+        return messages;
+    }
+
+    // 대기 중인 채팅을 배치 INSERT (DB 연결 문제 등으로 실패하면 다음 주기에 같은 채팅부터 다시 시도)
+    // 이미 저장된 채팅은 건너뛰므로 다시 시도해도 중복 저장되지 않음
+    @Scheduled(fixedDelayString = "${chat.write-behind.flush-interval:200}")
+    public synchronized void flush() {
+        if (!writeBehind) {
+            return;
+        }
+
+        try {
+            if (fsync == ChatJournal.Fsync.INTERVAL) {
+                journal.sync();
+            }
+
+            while (true) {
+                if (inFlight.isEmpty()) {
+                    // 저장 중 목록에 먼저 담은 뒤 대기열에서 제거 (pending 조회 시 어느 한쪽에는 항상 보이도록)
+                    List<Pending> batch = new ArrayList<>();
+                    for (Pending pending : queue) {
+                        if (batch.size() >= batchSize) {
+                            break;
+                        }
+                        batch.add(pending);
+                    }
+                    if (batch.isEmpty()) {
+                        return;
+                    }
+                    inFlight = batch;
+                    for (int i = 0; i < batch.size(); i++) {
+                        queue.poll();
+                    }
+                }
+
+                List<Pending> batch = inFlight;
+                store(batch.stream().map(Pending::message).toList());
+
+                inFlight = List.of();
+                queued.addAndGet(-batch.size());
+                acknowledge(batch);
+            }
+        } catch (Exception e) {
+            log.error("채팅 배치 저장 실패 (다음 주기에 다시 시도)", e);
+        }
+    }
+
+    // 종료 전에 남은 채팅 저장
+    @PreDestroy
+    public void shutdown() throws IOException {
+        if (!writeBehind) {
+            return;
+        }
+        flush();
+        journal.close();
+    }
+
+    // 부서 존재 여부 확인 (한 번 확인된 부서는 다시 조회하지 않음)
+    private void requireDepartment(Integer departmentId) {
+        if (knownDepartments.contains(departmentId)) {
+            return;
+        }
+        if (!departmentRepository.existsById(departmentId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 부서입니다.");
+        }
+        knownDepartments.add(departmentId);
+    }
+
+    // 세그먼트별로 저장 완료 건수 반영
+    private void acknowledge(List<Pending> batch) throws IOException {
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            counts.merge(pending.segment(), 1, Integer::sum);
+        }
+        for (Map.Entry<Long, Integer> entry : counts.entrySet()) {
+            journal.acknowledge(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // batchSize 단위로 DB에 없는 채팅만 저장 (저장된 건수 반환)
+    // 묶음 저장이 제약 조건 위반으로 실패하면 한 건씩 다시 저장해서 저장할 수 없는 채팅만 제외
+    private int store(List<ChatMessage> messages) {
+        int inserted = 0;
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<ChatMessage> chunk = messages.subList(from, Math.min(from + batchSize, messages.size()));
+            try {
+                inserted += transactionTemplate.execute((status) -> insertMissing(chunk));
+            } catch (DataIntegrityViolationException e) {
+                for (ChatMessage message : chunk) {
+                    try {
+                        inserted += transactionTemplate.execute((status) -> insertMissing(List.of(message)));
+                    } catch (DataIntegrityViolationException rejected) {
+                        log.error("저장할 수 없는 채팅 제외 : id={}, departmentId={}, talkerId={}, message={}",
+                                message.getId(), message.getDepartmentId(), message.getTalkerId(), message.getMessage(), rejected);
+                        dropped.increment();
+                    }
+                }
+            }
+        }
+        return inserted;
+    }
+
+    // DB에 없는 채팅만 저장 (저장 완료 후 로그 정리 전에 종료되었거나, 저장 후 응답 전에 실패한 경우 중복 방지)
+    private int insertMissing(List<ChatMessage> chunk) {
+        String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+        Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                "select id from chat where id in (" + placeholders + ")",
+                Long.class, chunk.stream().map(ChatMessage::getId).toArray()));
+
+        List<Object[]> rows = chunk.stream()
+                .filter((message) -> !existing.contains(message.getId()))
+                .map(this::row)
+                .toList();
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+        }
+        return rows.size();
+    }
+
+    private Object[] row(ChatMessage message) {
+        return new Object[]{message.getId(), message.getDepartmentId(), message.getTalkerId(), message.getMessage()};
+    }
+
+    private record Pending(ChatMessage message, long segment) {
+    }
+}
@@ -0,0 +1,284 @@
+package org.codenova.groupwareback.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.response.ChatMessage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/*
+    채팅 추가 전용 로그 (DB 저장 전 유실 방지용)
+    chat-<세그먼트번호>.log 파일에 [길이][CRC32][채팅] 레코드를 이어서 기록하고,
+    세그먼트가 segmentSize 를 넘으면 새 파일로 넘어간다.
+    DB 저장이 끝난 채팅 수를 acknowledge 로 알려주면 모두 저장된 지난 세그먼트 파일은 삭제한다.
+    서버 시작 시 남아 있는 세그먼트는 replay 로 읽어서 DB에 다시 저장한다.
+ */
+@Slf4j
+public class ChatJournal implements Closeable {
+
+    // fsync 정책 : 매 기록마다(ALWAYS) / 주기적으로 sync 호출 시(INTERVAL) / OS 에 맡김(NEVER)
+    public enum Fsync { ALWAYS, INTERVAL, NEVER }
+
+    private static final String PREFIX = "chat-";
+    private static final String SUFFIX = ".log";
+    private static final int HEADER = Integer.BYTES * 2;  // 길이 + CRC32
+
+    private final Path dir;
+    private final long segmentSize;
+    private final Fsync fsync;
+
+    // 시작 시점에 남아 있던 세그먼트 (replay 대상)
+    private final List<Path> previous;
+
+    // 세그먼트 번호 -> DB에 아직 저장되지 않은 채팅 수
+    private final Map<Long, Integer> unflushed = new HashMap<>();
+
+    private final Object syncLock = new Object();
+
+    private FileChannel channel;
+    private long segment;
+    private long segmentBytes;
+    private long written;          // 전체 기록 byte 수 (세그먼트를 넘어가도 계속 증가)
+    private volatile long synced;  // fsync 가 끝난 byte 수
+
+    public ChatJournal(Path dir, long segmentSize, Fsync fsync) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+
+        Files.createDirectories(dir);
+        this.previous = segments();
+        this.segment = previous.isEmpty() ? 1 : number(previous.get(previous.size() - 1)) + 1;
+        this.channel = open(segment);
+    }
+
+    // 채팅 한 건 기록 (기록된 세그먼트 번호 반환)
+    public long append(ChatMessage message) throws IOException {
+        ByteBuffer record = encode(message);
+        int length = record.remaining();
+        long position;
+        long recordSegment;
+
+        synchronized (this) {
+            if (segmentBytes > 0 && segmentBytes + length > segmentSize) {
+                roll();
+            }
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            segmentBytes += length;
+            written += length;
+            position = written;
+            recordSegment = segment;
+            unflushed.merge(segment, 1, Integer::sum);
+        }
+
+        if (fsync == Fsync.ALWAYS) {
+            syncTo(position);
+        }
+        return recordSegment;
+    }
+
+    // 지금까지 기록한 내용을 디스크에 반영 (INTERVAL 정책에서 주기적으로 호출)
+    public void sync() throws IOException {
+        long position;
+        synchronized (this) {
+            position = written;
+        }
+        syncTo(position);
+    }
+
+    // DB 저장이 끝난 채팅 수 반영 (모두 저장된 지난 세그먼트는 삭제)
+    public synchronized void acknowledge(long segmentNumber, int count) throws IOException {
+        int remaining = unflushed.merge(segmentNumber, -count, Integer::sum);
+        if (remaining <= 0 && segmentNumber != segment) {
+            unflushed.remove(segmentNumber);
+            Files.deleteIfExists(path(segmentNumber));
+        }
+    }
+
+    // 시작 시점에 남아 있던 세그먼트의 채팅 (기록 순서대로, 마지막에 일부만 기록된 레코드는 버림)
+    public List<ChatMessage> replay() throws IOException {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (Path file : previous) {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            while (buffer.remaining() >= HEADER) {
+                int length = buffer.getInt();
+                int crc = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()) {
+                    log.warn("채팅 로그 끝부분 손상 : {} (position={})", file.getFileName(), buffer.position() - HEADER);
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                if (crc(payload.duplicate()) != crc) {
+                    log.warn("채팅 로그 CRC 불일치 : {} (position={})", file.getFileName(), buffer.position() - HEADER);
+                    break;
+                }
+                messages.add(decode(payload));
+                buffer.position(buffer.position() + length);
+            }
+        }
+        return messages;
+    }
+
+    // replay 한 세그먼트 삭제 (DB 저장이 끝난 뒤 호출)
+    public void purgeReplayed() throws IOException {
+        for (Path file : previous) {
+            Files.deleteIfExists(file);
+        }
+        previous.clear();
+    }
+
+    public synchronized int getUnflushedSegments() {
+        return unflushed.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.force(false);
+        channel.close();
+        // 모두 저장된 상태로 종료하면 현재 세그먼트도 남길 필요 없음
+        if (unflushed.getOrDefault(segment, 0) <= 0) {
+            Files.deleteIfExists(path(segment));
+        }
+    }
+
+    // 여러 스레드의 fsync 요청을 한 번의 force 로 처리 (group commit)
+    private void syncTo(long position) throws IOException {
+        if (synced >= position) {
+            return;
+        }
+        synchronized (syncLock) {
+            if (synced >= position) {
+                return;
+            }
+            FileChannel target;
+            long targetPosition;
+            synchronized (this) {
+                target = channel;
+                targetPosition = written;
+            }
+            try {
+                target.force(false);
+            } catch (ClosedChannelException e) {
+                // 세그먼트 교체 시 이미 force 후 닫힌 경우
+            }
+            synced = targetPosition;
+        }
+    }
+
+    // 다음 세그먼트로 교체 (이전 세그먼트는 디스크 반영 후 닫음)
+    private void roll() throws IOException {
+        channel.force(false);
+        channel.close();
+        if (unflushed.getOrDefault(segment, 0) <= 0) {
+            unflushed.remove(segment);
+            Files.deleteIfExists(path(segment));
+        }
+        segment++;
+        segmentBytes = 0;
+        channel = open(segment);
+    }
+
+    private FileChannel open(long number) throws IOException {
+        return FileChannel.open(path(number),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path path(long number) {
+        return dir.resolve(String.format("%s%019d%s", PREFIX, number, SUFFIX));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return new ArrayList<>(files
+                    .filter((file) -> file.getFileName().toString().startsWith(PREFIX)
+                            && file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long number(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    // [길이][CRC32][id][부서 ID][보낸 사원 ID][보낸 사원 이름][메시지]
+    static ByteBuffer encode(ChatMessage message) {
+        byte[] talkerId = bytes(message.getTalkerId());
+        byte[] talkerName = bytes(message.getTalkerName());
+        byte[] text = bytes(message.getMessage());
+
+        int length = Long.BYTES + Integer.BYTES
+                + Integer.BYTES + length(talkerId)
+                + Integer.BYTES + length(talkerName)
+                + Integer.BYTES + length(text);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + length);
+        buffer.putInt(length);
+        buffer.putInt(0);  // CRC 자리
+        buffer.putLong(message.getId());
+        buffer.putInt(message.getDepartmentId());
+        put(buffer, talkerId);
+        put(buffer, talkerName);
+        put(buffer, text);
+
+        buffer.putInt(Integer.BYTES, crc(buffer.slice(HEADER, length)));
+        buffer.flip();
+        return buffer;
+    }
+
+    static ChatMessage decode(ByteBuffer payload) {
+        long id = payload.getLong();
+        int departmentId = payload.getInt();
+        return new ChatMessage(id, departmentId, string(payload), string(payload), string(payload));
+    }
+
+    private static int crc(ByteBuffer payload) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(payload);
+        return (int) crc32.getValue();
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    // null 은 길이 -1 로 기록
+    private static void put(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+}
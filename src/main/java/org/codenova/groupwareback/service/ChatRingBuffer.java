@@ -0,0 +1,199 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.codenova.groupwareback.repository.ChatRepository;
+import org.codenova.groupwareback.repository.DepartmentRepository;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    부서별 최근 채팅 메모리 보관소 (채팅방 입장 시 DB 조회 없이 최근 채팅 응답)
+    부서마다 최근 capacity 건까지, 추정 메모리 max-bytes 까지만 보관하고 넘치면 오래된 채팅부터 제거
+    처음 조회되는 부서는 DB에서 최근 채팅을 읽어서 채우고, 이후 새 채팅은 append 로 추가
+    다른 서버에 등록된 채팅은 ClusterRelayReceiver 가 전달받은 메시지로 append 하고,
+    전달 중 유실된 채팅(UDP)은 chat.ring.resync-cron 을 설정한 경우에만 그 주기로 DB의 최근 채팅을 합쳐서 보정
+ */
+@Service
+public class ChatRingBuffer {
+
+    // 채팅 한 건당 객체 / 필드 고정 비용 추정치 (byte)
+    private static final int MESSAGE_OVERHEAD = 96;
+
+    private final ChatRepository chatRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ChatIngestor chatIngestor;
+    private final MeterRegistry meterRegistry;
+    private final int capacity;
+    private final long maxBytes;
+
+    // 부서 ID -> 최근 채팅 (존재하는 부서만 생성되므로 부서 수 이상으로 늘어나지 않음)
+    private final Map<Integer, Ring> rings = new ConcurrentHashMap<>();
+
+    public ChatRingBuffer(ChatRepository chatRepository,
+                          DepartmentRepository departmentRepository,
+                          ChatIngestor chatIngestor,
+                          MeterRegistry meterRegistry,
+                          @Value("${chat.ring.capacity:200}") int capacity,
+                          @Value("${chat.ring.max-bytes:256KB}") DataSize maxBytes) {
+        this.chatRepository = chatRepository;
+        this.departmentRepository = departmentRepository;
+        this.chatIngestor = chatIngestor;
+        this.meterRegistry = meterRegistry;
+        this.capacity = capacity;
+        this.maxBytes = maxBytes.toBytes();
+
+        Gauge.builder("chat.ring.bytes.total", rings, (r) -> r.values().stream().mapToLong((ring) -> ring.bytes).sum())
+                .description("전체 부서 채팅 보관 메모리 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 새 채팅 추가 (아직 조회된 적 없는 부서는 처음 조회할 때 DB에서 채워지므로 무시)
+    public void append(ChatMessage message) {
+        Ring ring = rings.get(message.getDepartmentId());
+        if (ring == null) {
+            return;
+        }
+        synchronized (ring) {
+            if (ring.warmed) {
+                ring.add(message);
+            }
+        }
+    }
+
+    // 이미 채워진 부서마다 DB의 최근 채팅을 다시 읽어서 빠진 채팅만 추가 (기본값 "-" : 사용 안 함)
+    // 보관 내용을 비우지 않고, DB 조회는 잠금 밖에서 하므로 그동안 조회 / append 가 막히지 않음
+    @Scheduled(cron = "${chat.ring.resync-cron:-}")
+    public void resync() {
+        rings.forEach((departmentId, ring) -> {
+            if (!ring.warmed) {
+                return;
+            }
+            List<ChatMessage> latest = chatRepository.findRecentMessages(departmentId, PageRequest.of(0, capacity));
+            synchronized (ring) {
+                if (ring.warmed) {
+                    latest.forEach(ring::add);
+                }
+            }
+        });
+    }
+
+    // since 이후의 최근 채팅 (since 가 null 이면 보관 중인 전체)
+    // 보관 범위보다 이전 채팅이 필요하면 null 을 반환하므로 DB에서 조회해야 함
+    public List<ChatMessage> recent(Integer departmentId, Long since) {
+        Ring ring = ring(departmentId);
+        synchronized (ring) {
+            if (!ring.warmed) {
+                warm(departmentId, ring);
+            }
+            if (since == null) {
+                return new ArrayList<>(ring.messages.values());
+            }
+            if (ring.complete || (!ring.messages.isEmpty() && since >= ring.messages.firstKey())) {
+                return new ArrayList<>(ring.messages.tailMap(since, false).values());
+            }
+            return null;
+        }
+    }
+
+    // 부서별 보관 중인 채팅 수
+    public int size(Integer departmentId) {
+        Ring ring = rings.get(departmentId);
+        return ring == null ? 0 : ring.messages.size();
+    }
+
+    // 부서별 보관 메모리 추정치 (byte)
+    public long bytes(Integer departmentId) {
+        Ring ring = rings.get(departmentId);
+        return ring == null ? 0 : ring.bytes;
+    }
+
+    // 부서 보관소 (없는 부서면 404)
+    private Ring ring(Integer departmentId) {
+        Ring ring = rings.get(departmentId);
+        if (ring == null) {
+            if (!departmentRepository.existsById(departmentId)) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 부서입니다.");
+            }
+            ring = rings.computeIfAbsent(departmentId, this::register);
+        }
+        return ring;
+    }
+
+    // DB에서 최근 채팅을 읽어서 채움 (ring 잠금 안에서 호출)
+    private void warm(Integer departmentId, Ring ring) {
+        // 아직 DB에 저장되지 않은 채팅 (write-behind) 을 먼저 확인해야 그 사이 저장된 채팅을 놓치지 않음
+        List<ChatMessage> pending = chatIngestor.pending(departmentId);
+
+        // 최신순으로 capacity 건 조회 (적게 조회되었다면 부서 채팅 전체를 보관 중)
+        List<ChatMessage> latest = chatRepository.findRecentMessages(departmentId, PageRequest.of(0, capacity));
+        ring.complete = latest.size() < capacity;
+        for (ChatMessage message : latest) {
+            ring.add(message);
+        }
+        for (ChatMessage message : pending) {
+            ring.add(message);
+        }
+        ring.warmed = true;
+    }
+
+    private Ring register(Integer departmentId) {
+        Ring ring = new Ring();
+        Gauge.builder("chat.ring.bytes", ring, (r) -> r.bytes)
+                .tag("department", String.valueOf(departmentId))
+                .description("부서 채팅 보관 메모리 추정치")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("chat.ring.messages", ring, (r) -> r.messages.size())
+                .tag("department", String.valueOf(departmentId))
+                .description("부서 채팅 보관 건수")
+                .register(meterRegistry);
+        return ring;
+    }
+
+    // 문자열은 UTF-16 기준 2 byte 로 추정
+    static long estimateBytes(ChatMessage message) {
+        return MESSAGE_OVERHEAD
+                + 2L * length(message.getMessage())
+                + 2L * length(message.getTalkerId())
+                + 2L * length(message.getTalkerName());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // 부서 하나의 최근 채팅 (채팅 ID 순서, 늦게 도착한 채팅도 순서대로 들어감)
+    private class Ring {
+        private final TreeMap<Long, ChatMessage> messages = new TreeMap<>();
+        private volatile boolean warmed;
+        private boolean complete;       // 부서 채팅 전체를 보관 중인지 (오래된 채팅을 제거한 적 없음)
+        private volatile long bytes;
+
+        private void add(ChatMessage message) {
+            if (messages.putIfAbsent(message.getId(), message) != null) {
+                return;
+            }
+            bytes += estimateBytes(message);
+
+            // 건수 / 메모리 상한을 넘으면 오래된 채팅부터 제거
+            while (messages.size() > capacity || (bytes > maxBytes && messages.size() > 1)) {
+                bytes -= estimateBytes(messages.pollFirstEntry().getValue());
+                complete = false;
+            }
+        }
+    }
+}
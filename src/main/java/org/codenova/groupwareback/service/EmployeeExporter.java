@@ -0,0 +1,149 @@
+package org.codenova.groupwareback.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.response.EmployeeProfile;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/*
+    사원 전체 내보내기 (CSV 또는 JSON lines)
+    DB에서 읽은 사원을 목록으로 모으지 않고 한 건씩 바로 출력 스트림에 쓰므로 사원 수와 관계없이 메모리 사용량이 일정하다.
+    출력한 사원은 영속성 컨텍스트에서 분리해서 트랜잭션이 끝날 때까지 쌓이지 않도록 함
+    전송이 끝날 때까지 DB 커넥션을 사용하므로 동시에 실행할 수 있는 내보내기 수는 employee.export.max-concurrent 로 제한
+ */
+@Service
+public class EmployeeExporter {
+
+    private static final String CSV_HEADER = "id,name,email,hireDate,departmentId,departmentName,position,active";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+
+    public EmployeeExporter(EntityManager entityManager,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${employee.export.fetch-size:500}") int fetchSize,
+                            @Value("${employee.export.max-concurrent:2}") int maxConcurrent,
+                            @Value("${employee.export.acquire-timeout:5s}") Duration acquireTimeout) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.permits = new Semaphore(maxConcurrent);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    // csv 가 false 이면 한 줄에 JSON 객체 하나 (JSON lines)
+    // 동시에 실행 중인 내보내기가 max-concurrent 개이고 acquire-timeout 안에 끝나지 않으면 503 (아직 아무것도 쓰지 않은 상태)
+    public void export(boolean csv, OutputStream out) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "다른 내보내기가 진행 중입니다. 잠시 후 다시 시도하세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "내보내기가 중단되었습니다.");
+        }
+        try {
+            write(csv, out);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void write(boolean csv, OutputStream out) throws IOException {
+        // 출력 스트림을 닫는 것은 호출한 쪽 (서블릿 컨테이너) 담당
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (csv) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // 스트림 조회는 트랜잭션 안에서만 가능 (open-in-view 를 사용하지 않으므로 직접 시작)
+        try {
+            transactionTemplate.executeWithoutResult((status) -> {
+                try (Stream<Employee> employees = streamAll()) {
+                    employees.forEach((employee) -> {
+                        write(writer, EmployeeProfile.from(employee), csv);
+                        entityManager.detach(employee);
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 등 (조회도 함께 중단)
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    // 사원 전체를 id 순서로 읽는 스트림 (트랜잭션 안에서만 사용 가능)
+    // fetch size 는 이 조회에만 지정 (MySQL 은 Integer.MIN_VALUE 이면 한 건씩 받아오는 스트리밍 조회)
+    // 읽기 전용으로 조회하므로 변경 감지용 스냅샷을 만들지 않음
+    private Stream<Employee> streamAll() {
+        return entityManager.createQuery("select e from Employee e left join fetch e.department order by e.id", Employee.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void write(Writer writer, EmployeeProfile profile, boolean csv) {
+        try {
+            if (csv) {
+                writer.write(csvLine(profile));
+            } else {
+                writer.write(objectMapper.writeValueAsString(profile));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csvLine(EmployeeProfile profile) {
+        return String.join(",",
+                csvValue(profile.getId()),
+                csvValue(profile.getName()),
+                csvValue(profile.getEmail()),
+                csvValue(profile.getHireDate()),
+                csvValue(profile.getDepartmentId()),
+                csvValue(profile.getDepartmentName()),
+                csvValue(profile.getPosition()),
+                csvValue(profile.getActive()));
+    }
+
+    // 쉼표 / 따옴표 / 줄바꿈이 포함된 값은 큰따옴표로 감싸고 따옴표는 "" 로 표기
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+}
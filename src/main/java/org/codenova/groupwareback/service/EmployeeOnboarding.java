@@ -0,0 +1,248 @@
+package org.codenova.groupwareback.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.entity.Department;
+import org.codenova.groupwareback.repository.DepartmentRepository;
+import org.codenova.groupwareback.request.AddEmployee;
+import org.codenova.groupwareback.response.BulkEmployeeResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+    사원 일괄 등록 (CSV 또는 JSON lines)
+    요청 본문을 한 줄씩 읽으면서 AddEmployee 와 같은 규칙으로 검사하고,
+    통과한 행만 모아서 사원 번호 구간을 한 번에 예약 -> 초기 비밀번호 병렬 암호화 -> JDBC 배치 insert 순서로 처리한다.
+    CSV 는 첫 줄이 헤더 (name,email,hireDate,position,departmentId 순서는 자유), 따옴표 안의 줄바꿈은 지원하지 않음
+ */
+@Service
+@Slf4j
+public class EmployeeOnboarding {
+
+    private static final String INITIAL_PASSWORD = "0000";
+    private static final String INSERT_SQL = "insert into employee " +
+            "(id, password, name, email, hire_date, department_id, position, active) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DepartmentRepository departmentRepository;
+    private final SerialAllocator serialAllocator;
+    private final PasswordHasher passwordHasher;
+    private final PrincipalCache principalCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxRows;
+    private final int batchSize;
+
+    public EmployeeOnboarding(DepartmentRepository departmentRepository,
+                              SerialAllocator serialAllocator,
+                              PasswordHasher passwordHasher,
+                              PrincipalCache principalCache,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              ObjectMapper objectMapper,
+                              Validator validator,
+                              @Value("${employee.bulk.max-rows:5000}") int maxRows,
+                              @Value("${employee.bulk.batch-size:500}") int batchSize) {
+        this.departmentRepository = departmentRepository;
+        this.serialAllocator = serialAllocator;
+        this.passwordHasher = passwordHasher;
+        this.principalCache = principalCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxRows = maxRows;
+        this.batchSize = batchSize;
+    }
+
+    // csv 가 false 이면 한 줄에 JSON 객체 하나 (JSON lines)
+    public BulkEmployeeResult register(BufferedReader reader, boolean csv) throws IOException {
+        // 부서 존재 여부는 행마다 조회하지 않고 한 번에 확인
+        Set<Integer> departments = departmentRepository.findAll().stream()
+                .map(Department::getId)
+                .collect(Collectors.toSet());
+
+        List<BulkEmployeeResult.Row> rows = new ArrayList<>();
+        List<Candidate> candidates = new ArrayList<>();
+
+        List<String> header = null;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);  // UTF-8 BOM 제거 (엑셀에서 저장한 CSV)
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (csv && header == null) {
+                header = splitCsv(line).stream().map(String::trim).toList();
+                continue;
+            }
+            if (rows.size() >= maxRows) {
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                        "한 번에 등록할 수 있는 사원은 " + maxRows + "명까지입니다.");
+            }
+
+            BulkEmployeeResult.Row row = new BulkEmployeeResult.Row(lineNumber, "invalid", null, List.of());
+            rows.add(row);
+
+            AddEmployee addEmployee;
+            try {
+                addEmployee = csv ? fromCsv(header, line) : objectMapper.readValue(line, AddEmployee.class);
+            } catch (JacksonException e) {
+                row.setErrors(List.of("형식 오류 : " + e.getOriginalMessage()));
+                continue;
+            } catch (IllegalArgumentException e) {
+                row.setErrors(List.of("형식 오류 : " + e.getMessage()));
+                continue;
+            }
+
+            List<String> errors = validate(addEmployee, departments);
+            if (!errors.isEmpty()) {
+                row.setErrors(errors);
+                continue;
+            }
+            candidates.add(new Candidate(row, addEmployee));
+        }
+
+        if (!candidates.isEmpty()) {
+            insert(candidates);
+        }
+
+        int created = (int) rows.stream().filter((row) -> row.getStatus().equals("created")).count();
+        log.info("사원 일괄 등록 : 전체 {}건, 등록 {}건", rows.size(), created);
+        return new BulkEmployeeResult(rows.size(), created, rows.size() - created, rows);
+    }
+
+    private void insert(List<Candidate> candidates) {
+        // 통과한 행 수만큼 사원 번호를 한 번에 예약 (저장에 실패한 행의 번호는 건너뜀)
+        long first = serialAllocator.reserveRange("employee", candidates.size());
+
+        // 행마다 salt 가 다르므로 해시도 행마다 따로 계산 (일괄 등록용 스레드 풀에서 병렬 처리)
+        List<String> hashes = passwordHasher.hashAll(INITIAL_PASSWORD, candidates.size());
+
+        for (int from = 0; from < candidates.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, candidates.size());
+
+            List<Object[]> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                AddEmployee addEmployee = candidates.get(i).addEmployee();
+                batch.add(new Object[]{
+                        "g-" + (first + i),
+                        hashes.get(i),
+                        addEmployee.getName(),
+                        addEmployee.getEmail(),
+                        addEmployee.getHireDate() == null ? null : Date.valueOf(addEmployee.getHireDate()),
+                        addEmployee.getDepartmentId(),
+                        addEmployee.getPosition(),
+                        "N"});
+            }
+
+            // 배치 단위 트랜잭션으로 저장 (실패한 배치는 전부 롤백되므로 그 행만 failed 처리하고 나머지는 계속 진행)
+            try {
+                transactionTemplate.executeWithoutResult((status) -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+            } catch (DataAccessException e) {
+                log.warn("사원 일괄 등록 중 저장 실패 ({}~{}번째 행)", from + 1, to, e);
+                for (int i = from; i < to; i++) {
+                    candidates.get(i).row().setStatus("failed");
+                    candidates.get(i).row().setErrors(List.of("저장 실패 : " + e.getMostSpecificCause().getMessage()));
+                }
+                continue;
+            }
+
+            for (int i = from; i < to; i++) {
+                String id = "g-" + (first + i);
+                candidates.get(i).row().setStatus("created");
+                candidates.get(i).row().setId(id);
+
+                // 같은 ID로 캐시된 인증 사용자 정보가 있다면 무효화
+                principalCache.evict(id);
+            }
+        }
+    }
+
+    // AddEmployee 제약 조건 + 부서 존재 여부
+    private List<String> validate(AddEmployee addEmployee, Set<Integer> departments) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<AddEmployee> violation : validator.validate(addEmployee)) {
+            errors.add(violation.getPropertyPath() + " : " + violation.getMessage());
+        }
+        if (addEmployee.getDepartmentId() != null && !departments.contains(addEmployee.getDepartmentId())) {
+            errors.add("departmentId : 존재하지 않는 부서입니다.");
+        }
+        errors.sort(null);
+        return errors;
+    }
+
+    // 헤더 이름으로 값을 찾아서 AddEmployee 로 변환 (빈 값은 입력하지 않은 것으로 처리)
+    private AddEmployee fromCsv(List<String> header, String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() > header.size()) {
+            throw new IllegalArgumentException("헤더보다 값이 많습니다.");
+        }
+
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (!value.isEmpty()) {
+                fields.put(header.get(i), value);
+            }
+        }
+        return objectMapper.convertValue(fields, AddEmployee.class);
+    }
+
+    // 쉼표로 구분, 큰따옴표로 감싼 값 안의 쉼표와 "" (따옴표 자체) 지원
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    private record Candidate(BulkEmployeeResult.Row row, AddEmployee addEmployee) {
+    }
+}
@@ -0,0 +1,72 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.entity.Note;
+import org.codenova.groupwareback.entity.NoteStatus;
+import org.codenova.groupwareback.repository.EmployeeRepository;
+import org.codenova.groupwareback.repository.NoteRepository;
+import org.codenova.groupwareback.repository.NoteStatusRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+// 쪽지 저장 + 수신자별 상태(NoteStatus) 배치 저장 + 수신 알림 비동기 전송
+@Service
+@RequiredArgsConstructor
+public class NoteFanoutService {
+
+    private final EmployeeRepository employeeRepository;
+    private final NoteRepository noteRepository;
+    private final NoteStatusRepository noteStatusRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final UnreadNoteCounter unreadNoteCounter;
+    private final MeterRegistry meterRegistry;
+
+    // 쪽지와 수신 상태를 한 트랜잭션으로 저장하고, 커밋이 끝난 뒤 알림 전송을 넘김
+    // 알림 전송은 별도 스레드에서 처리되므로 요청은 저장이 끝나는 즉시 응답
+    @Transactional
+    public List<String> send(Note note, List<String> receiverIds) {
+
+        // DB에 쪽지 저장
+        noteRepository.save(note);
+
+        // DB에서 수신자 전체 목록 조회
+        List<Employee> receivers = employeeRepository.findAllById(receiverIds);
+
+        // NoteStatus 객체 리스트 생성
+        List<NoteStatus> noteStatus = receivers.stream()
+                .map((employee) -> {
+                    return NoteStatus.builder()
+                            .note(note)
+                            .isRead(false)
+                            .isDelete(false)
+                            .receiver(employee)
+                            .build();
+                }).toList();
+
+        // NoteStatus 전체 저장 (hibernate.jdbc.batch_size 단위로 배치 insert)
+        noteStatusRepository.saveAll(noteStatus);
+
+        List<String> ids = receivers.stream().map(Employee::getId).toList();
+
+        // 커밋이 완료된 후에만 수신자들에게 웹소켓 알림 전송
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationDispatcher.sendPrivate(ids, "새로운 쪽지를 수신하였습니다.");
+                unreadNoteCounter.incrementAll(ids);
+
+                // 보낸 쪽지 수 / 수신자 수 집계
+                meterRegistry.counter("note.sent").increment();
+                meterRegistry.counter("note.fanout.recipients").increment(ids.size());
+            }
+        });
+
+        return ids;
+    }
+}
@@ -0,0 +1,109 @@
+package org.codenova.groupwareback.service;
+
+import lombok.RequiredArgsConstructor;
+import org.codenova.groupwareback.config.CoalesceProperties;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/*
+    같은 구독 경로로 짧은 시간 안에 여러 번 보내는 같은 종류(type)의 알림을 하나로 묶어서 전송
+    예) 새 글 3건이 연달아 등록되면 "새 글 3건이 등록되었습니다." 한 번만 전송
+    설정(notification.coalesce.rules)에 해당하지 않는 경로는 바로 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CoalesceProperties properties;
+
+    // (구독 경로, 알림 종류) -> 아직 전송하지 않은 알림 묶음
+    // 종류가 다른 알림은 같은 경로라도 따로 묶어서 각자의 summary 로 전송
+    private final ConcurrentHashMap<Key, Bucket> buckets = new ConcurrentHashMap<>();
+
+    // type : 알림 종류 (예: board.created), message : 알림이 한 건일 때 보낼 내용, summary : 여러 건일 때 건수를 받아 만들 내용
+    public void submit(String destination, String type, String message, IntFunction<String> summary) {
+        CoalesceProperties.Rule rule = findRule(destination);
+        if (rule == null) {
+            messagingTemplate.convertAndSend(destination, message);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        buckets.compute(new Key(destination, type), (key, bucket) -> {
+            if (bucket == null) {
+                return new Bucket(rule, message, summary, now);
+            }
+            bucket.count++;
+            bucket.lastAt = now;
+            return bucket;
+        });
+    }
+
+    // 전송할 시점이 된 묶음을 꺼내서 전송
+    @Scheduled(fixedDelayString = "#{@coalesceProperties.tick.toMillis()}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<Key> keys = new ArrayList<>(buckets.keySet());
+
+        for (Key key : keys) {
+            Bucket[] due = new Bucket[1];
+            buckets.computeIfPresent(key, (k, bucket) -> {
+                if (bucket.isDue(now)) {
+                    due[0] = bucket;
+                    return null;
+                }
+                return bucket;
+            });
+
+            if (due[0] != null) {
+                Bucket bucket = due[0];
+                messagingTemplate.convertAndSend(key.destination(),
+                        bucket.count == 1 ? bucket.message : bucket.summary.apply(bucket.count));
+            }
+        }
+    }
+
+    // 가장 길게 일치하는 prefix 규칙
+    private CoalesceProperties.Rule findRule(String destination) {
+        CoalesceProperties.Rule found = null;
+        for (CoalesceProperties.Rule rule : properties.getRules().values()) {
+            if (rule.getPrefix() != null && destination.startsWith(rule.getPrefix())
+                    && (found == null || rule.getPrefix().length() > found.getPrefix().length())) {
+                found = rule;
+            }
+        }
+        return found;
+    }
+
+    private record Key(String destination, String type) {
+    }
+
+    private static class Bucket {
+        private final CoalesceProperties.Rule rule;
+        private final String message;
+        private final IntFunction<String> summary;
+        private final long firstAt;
+        private long lastAt;
+        private int count = 1;
+
+        private Bucket(CoalesceProperties.Rule rule, String message, IntFunction<String> summary, long now) {
+            this.rule = rule;
+            this.message = message;
+            this.summary = summary;
+            this.firstAt = now;
+            this.lastAt = now;
+        }
+
+        private boolean isDue(long now) {
+            return now - lastAt >= rule.getWindow().toMillis()
+                    || now - firstAt >= rule.getMaxLatency().toMillis();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.codenova.groupwareback.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// 다수 대상에게 보내는 웹소켓 알림을 일정 개수씩 나눠서 비동기로 전송
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public NotificationDispatcher(SimpMessagingTemplate messagingTemplate,
+                                  @Qualifier("notificationExecutor") Executor executor,
+                                  @Value("${notification.chunk-size:200}") int chunkSize) {
+        this.messagingTemplate = messagingTemplate;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    // 각 사원의 개인 채널(/private/{id})로 같은 메시지 전송
+    public void sendPrivate(List<String> employeeIds, Object payload) {
+        dispatch(employeeIds, (id) -> messagingTemplate.convertAndSend("/private/" + id, payload));
+    }
+
+    // 대상 목록을 chunkSize 단위로 나눠 스레드 풀에 전달
+    public <T> void dispatch(List<T> targets, Consumer<T> action) {
+        for (int from = 0; from < targets.size(); from += chunkSize) {
+            List<T> chunk = List.copyOf(targets.subList(from, Math.min(from + chunkSize, targets.size())));
+
+            executor.execute(() -> {
+                for (T target : chunk) {
+                    try {
+                        action.accept(target);
+                    } catch (Exception e) {
+                        // 한 명에게 실패해도 나머지 대상에게는 계속 전송
+                        log.warn("알림 전송 실패 : {}", target, e);
+                    }
+                }
+            });
+        }
+    }
+}
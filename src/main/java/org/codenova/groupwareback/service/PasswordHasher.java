@@ -0,0 +1,177 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    BCrypt 암호화/검증 전용 스레드 풀
+    한 번에 약 100ms 가 걸리는 BCrypt 작업을 톰캣 작업 스레드와 분리하고,
+    대기열이 가득 차면 바로 503 을 응답해서 로그인 폭주가 다른 API 까지 막지 않도록 한다.
+ */
+@Service
+@Slf4j
+public class PasswordHasher {
+
+    private final int cost;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+    private final Timer hashTimer;
+    private final Timer checkTimer;
+
+    public PasswordHasher(@Value("${password.bcrypt.cost:10}") int cost,
+                          @Value("${password.executor.pool-size:4}") int poolSize,
+                          @Value("${password.executor.queue-capacity:64}") int queueCapacity,
+                          @Value("${password.executor.timeout:5s}") Duration timeout,
+                          @Value("${password.bulk.pool-size:4}") int bulkPoolSize,
+                          MeterRegistry meterRegistry) {
+        this.cost = cost;
+        this.timeout = timeout;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                (runnable) -> {
+                    Thread thread = new Thread(runnable, "password-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        // 일괄 등록용 스레드 풀 (로그인용 풀과 분리, 대기열이 가득 차면 호출한 스레드에서 직접 실행)
+        AtomicInteger bulkThreadNumber = new AtomicInteger();
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkPoolSize * 4),
+                (runnable) -> {
+                    Thread thread = new Thread(runnable, "password-bulk-" + bulkThreadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.hashTimer = Timer.builder("password.hash.latency")
+                .description("BCrypt 암호화 소요 시간")
+                .register(meterRegistry);
+        this.checkTimer = Timer.builder("password.check.latency")
+                .description("BCrypt 검증 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("password.executor.queue", executor, (e) -> e.getQueue().size())
+                .description("암호화 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("암호화 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    // 설정된 cost 로 암호화
+    public String hash(String rawPassword) {
+        return submit(hashTimer, () -> BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost)));
+    }
+
+    // 같은 비밀번호를 count 번 암호화 (각각 다른 salt, 일괄 등록용 스레드 풀에서 병렬 처리)
+    public List<String> hashAll(String rawPassword, int count) {
+        List<Future<String>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            futures.add(bulkExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return BCrypt.hashpw(rawPassword, BCrypt.gensalt(cost));
+                } finally {
+                    hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }));
+        }
+
+        List<String> hashes = new ArrayList<>(count);
+        try {
+            for (Future<String> future : futures) {
+                hashes.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach((future) -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+        return hashes;
+    }
+
+    // 평문 비밀번호와 암호화된 비밀번호 비교
+    public boolean check(String rawPassword, String hashed) {
+        return submit(checkTimer, () -> BCrypt.checkpw(rawPassword, hashed));
+    }
+
+    // 저장된 해시의 cost 가 설정값과 다르면 재암호화 필요 ($2a$10$... 형식)
+    public boolean needsRehash(String hashed) {
+        try {
+            return Integer.parseInt(hashed.substring(4, 6)) != cost;
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    // 전용 스레드 풀에서 실행하고 소요 시간 기록
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 기다리지 않고 바로 503
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+}
@@ -0,0 +1,114 @@
+package org.codenova.groupwareback.service;
+
+import lombok.RequiredArgsConstructor;
+import org.codenova.groupwareback.interceptor.AuthInterceptor;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    웹소켓(/handshake) 세션 기준 접속자 관리
+    - CONNECT 프레임의 Authorization 헤더(Bearer 토큰)로 확인된 사원만 접속자로 등록한다.
+      (구독 경로는 클라이언트가 임의로 정할 수 있으므로 /private/{id} 구독만으로는 등록하지 않음)
+    - 접속/종료가 있을 때마다 바로 알리지 않고, 일정 주기마다 변경분만 모아서 /public 으로 전송한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PresenceRegistry {
+
+    private final AuthInterceptor authInterceptor;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 세션 ID -> 사원 ID
+    private final ConcurrentHashMap<String, String> sessions = new ConcurrentHashMap<>();
+
+    // 사원 ID -> 열려 있는 세션 수 (여러 탭/기기 접속)
+    // 증가/감소 모두 compute 안에서 처리 (0 이 되어 제거되는 것과 증가가 겹치지 않도록)
+    private final ConcurrentHashMap<String, Integer> connections = new ConcurrentHashMap<>();
+
+    // 마지막 전송 이후 상태가 바뀐 사원 ID
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+
+    // 마지막으로 /public 에 알린 접속자 목록
+    private final Set<String> published = new HashSet<>();
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String authorization = accessor.getFirstNativeHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            String subject = authInterceptor.resolveSubject(authorization.substring("Bearer ".length()));
+            if (subject != null) {
+                register(accessor.getSessionId(), subject);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String employeeId = sessions.remove(event.getSessionId());
+        if (employeeId == null) {
+            return;
+        }
+
+        connections.computeIfPresent(employeeId, (id, count) -> count <= 1 ? null : count - 1);
+        changed.add(employeeId);
+    }
+
+    // 현재 접속 중인 사원 ID 목록
+    public List<String> snapshot() {
+        return new ArrayList<>(new TreeSet<>(connections.keySet()));
+    }
+
+    // 변경된 접속 상태를 모아서 /public 으로 전송 { "online": [...], "offline": [...] }
+    @Scheduled(fixedDelayString = "${presence.flush-interval:2000}")
+    public synchronized void flush() {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        List<String> online = new ArrayList<>();
+        List<String> offline = new ArrayList<>();
+        for (String employeeId : List.copyOf(changed)) {
+            changed.remove(employeeId);
+            boolean connected = connections.containsKey(employeeId);
+
+            // 주기 안에서 접속했다가 바로 종료한 경우 등 실제 상태가 바뀌지 않았으면 알리지 않음
+            if (connected && published.add(employeeId)) {
+                online.add(employeeId);
+            } else if (!connected && published.remove(employeeId)) {
+                offline.add(employeeId);
+            }
+        }
+
+        if (!online.isEmpty() || !offline.isEmpty()) {
+            messagingTemplate.convertAndSend("/public", Map.of("online", online, "offline", offline));
+        }
+    }
+
+    // 세션당 한 번만 사원을 등록 (이미 확인된 세션이면 무시)
+    private void register(String sessionId, String employeeId) {
+        if (sessionId == null || sessions.putIfAbsent(sessionId, employeeId) != null) {
+            return;
+        }
+
+        connections.merge(employeeId, 1, Integer::sum);
+        changed.add(employeeId);
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
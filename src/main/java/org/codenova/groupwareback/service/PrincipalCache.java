@@ -0,0 +1,40 @@
+package org.codenova.groupwareback.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
+import org.codenova.groupwareback.repository.EmployeeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+// 사원 ID -> 인증 사용자 스냅샷 캐시
+// 사원 정보가 변경되면 evict 로 바로 무효화
+@Service
+public class PrincipalCache {
+
+    private final EmployeeRepository employeeRepository;
+    private final Cache<String, AuthPrincipal> principals;
+
+    public PrincipalCache(EmployeeRepository employeeRepository,
+                          @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.principal-cache.ttl:10m}") Duration ttl) {
+        this.employeeRepository = employeeRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // 캐시에 없으면 DB에서 조회 후 저장 (존재하지 않는 사원이면 null)
+    public AuthPrincipal get(String employeeId) {
+        return principals.get(employeeId, (id) -> employeeRepository.findById(id)
+                .map(AuthPrincipal::from)
+                .orElse(null));
+    }
+
+    public void evict(String employeeId) {
+        principals.invalidate(employeeId);
+    }
+}
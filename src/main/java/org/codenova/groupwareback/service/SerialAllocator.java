@@ -0,0 +1,94 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.entity.Serial;
+import org.codenova.groupwareback.repository.SerialRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+    serial 테이블 기반 번호 발급기 (hi/lo 방식)
+    ref 별로 blockSize 만큼의 번호 구간을 비관적 락(select ... for update) 한 번으로 예약하고,
+    예약된 구간 안에서는 DB 접근 없이 메모리에서 번호를 나눠준다.
+    서버 재시작 시 사용하지 못한 구간의 번호는 건너뛴다.
+ */
+@Service
+public class SerialAllocator {
+
+    private final SerialRepository serialRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+
+    // ref -> 현재 사용 중인 번호 구간
+    private final ConcurrentHashMap<String, Block> blocks = new ConcurrentHashMap<>();
+
+    // ref -> 구간 예약 시 사용하는 잠금 객체
+    private final ConcurrentHashMap<String, Object> locks = new ConcurrentHashMap<>();
+
+    public SerialAllocator(SerialRepository serialRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${serial.block-size:20}") int blockSize) {
+        this.serialRepository = serialRepository;
+        // 구간 예약은 호출한 쪽 트랜잭션과 별개로 바로 커밋 (롤백되더라도 번호가 중복되지 않도록)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+    }
+
+    // ref 에 해당하는 다음 번호 발급
+    public long next(String ref) {
+        while (true) {
+            Block block = blocks.get(ref);
+            if (block != null) {
+                long number = block.next.getAndIncrement();
+                if (number <= block.max) {
+                    return number;
+                }
+            }
+
+            // 구간을 다 쓴 경우 한 스레드만 새 구간을 예약
+            synchronized (locks.computeIfAbsent(ref, (key) -> new Object())) {
+                if (blocks.get(ref) == block) {
+                    blocks.put(ref, reserve(ref, blockSize));
+                }
+            }
+        }
+    }
+
+    // count 개의 연속된 번호 구간을 바로 예약 (시작 번호 반환)
+    public long reserveRange(String ref, int count) {
+        Block block = reserve(ref, count);
+        return block.next.get();
+    }
+
+    private Block reserve(String ref, int count) {
+        return transactionTemplate.execute((status) -> {
+            Serial serial = serialRepository.findWithLockByRef(ref)
+                    .orElseThrow(() -> new IllegalStateException("serial 정보가 없습니다. ref=" + ref));
+
+            long first = serial.getLastNumber() + 1;
+            long last = serial.getLastNumber() + count;
+
+            serial.setLastNumber(last);
+            serialRepository.save(serial);
+
+            return new Block(first, last);
+        });
+    }
+
+    // 예약된 번호 구간 [next, max]
+    private static class Block {
+        private final AtomicLong next;
+        private final long max;
+
+        private Block(long first, long max) {
+            this.next = new AtomicLong(first);
+            this.max = max;
+        }
+    }
+}
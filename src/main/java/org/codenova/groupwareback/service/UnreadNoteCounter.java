@@ -0,0 +1,137 @@
+package org.codenova.groupwareback.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.codenova.groupwareback.repository.NoteStatusRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongUnaryOperator;
+
+/*
+    사원별 읽지 않은 쪽지 수
+    시작 시 그룹 쿼리 한 번으로 채우고, 이후에는 쪽지 수신/읽음 처리 때 메모리에서만 증감한다.
+    값이 바뀔 때마다 /private/{id} 로 { "unreadCount": n } 을 전송한다.
+    여러 서버로 실행하면 다른 서버에서 처리된 수신/읽음은 반영되지 않으므로 note.unread.resync-cron 을 설정해서 주기적으로 DB 기준 값으로 맞춘다.
+ */
+@Service
+@Slf4j
+public class UnreadNoteCounter {
+
+    private final NoteStatusRepository noteStatusRepository;
+    private final NotificationDispatcher notificationDispatcher;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private volatile ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    // resync 의 DB 조회 ~ 교체 사이에 증감된 사원 (resync 중이 아니면 null)
+    private volatile Set<String> touchedDuringResync;
+
+    public UnreadNoteCounter(NoteStatusRepository noteStatusRepository,
+                             NotificationDispatcher notificationDispatcher,
+                             SimpMessagingTemplate messagingTemplate) {
+        this.noteStatusRepository = noteStatusRepository;
+        this.notificationDispatcher = notificationDispatcher;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    // 애플리케이션 시작 시 DB 기준으로 다시 계산
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        counters = load();
+        log.info("읽지 않은 쪽지 수 계산 완료 : {}명", counters.size());
+    }
+
+    // 설정한 주기마다 DB 기준 값으로 맞추고, 값이 달라진 사원에게만 변경된 값 전송 (기본값 "-" : 사용 안 함)
+    // 조회하는 동안 증감된 사원은 조회 결과가 이미 지난 값일 수 있으므로 건너뜀 (다음 주기에 맞춰짐)
+    @Scheduled(cron = "${note.unread.resync-cron:-}")
+    public void resync() {
+        Set<String> touched = ConcurrentHashMap.newKeySet();
+        touchedDuringResync = touched;
+        Set<String> changed = ConcurrentHashMap.newKeySet();
+        try {
+            ConcurrentHashMap<String, AtomicLong> loaded = load();
+            Set<String> ids = new HashSet<>(counters.keySet());
+            ids.addAll(loaded.keySet());
+
+            for (String id : ids) {
+                AtomicLong value = loaded.get(id);
+                long count = value == null ? 0 : value.get();
+                // 증감과 같은 잠금(compute) 안에서 확인 후 교체
+                counters.compute(id, (key, counter) -> {
+                    if (touched.contains(key)) {
+                        return counter;
+                    }
+                    if (counter == null) {
+                        counter = new AtomicLong();
+                    }
+                    if (counter.getAndSet(count) != count) {
+                        changed.add(key);
+                    }
+                    return counter;
+                });
+            }
+        } finally {
+            touchedDuringResync = null;
+        }
+
+        if (!changed.isEmpty()) {
+            log.info("읽지 않은 쪽지 수 보정 : {}명", changed.size());
+            notificationDispatcher.dispatch(List.copyOf(changed), this::publish);
+        }
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> load() {
+        ConcurrentHashMap<String, AtomicLong> loaded = new ConcurrentHashMap<>();
+        for (Object[] row : noteStatusRepository.countUnreadGroupByReceiver()) {
+            loaded.put((String) row[0], new AtomicLong(((Number) row[1]).longValue()));
+        }
+        return loaded;
+    }
+
+    public long get(String employeeId) {
+        AtomicLong counter = counters.get(employeeId);
+        return counter == null ? 0 : counter.get();
+    }
+
+    // 새 쪽지를 받은 수신자들의 카운트 증가 후 비동기로 전송
+    public void incrementAll(List<String> employeeIds) {
+        for (String id : employeeIds) {
+            update(id, (value) -> value + 1);
+        }
+        notificationDispatcher.dispatch(employeeIds, this::publish);
+    }
+
+    // 쪽지를 읽은 사원의 카운트 감소 후 전송 (0 미만으로 내려가지 않음)
+    public void decrement(String employeeId) {
+        update(employeeId, (value) -> Math.max(0, value - 1));
+        publish(employeeId);
+    }
+
+    // resync 중이면 증감된 사원을 기록 (compute 안에서 처리하므로 resync 의 교체와 겹치지 않음)
+    private void update(String employeeId, LongUnaryOperator operator) {
+        counters.compute(employeeId, (id, counter) -> {
+            Set<String> touched = touchedDuringResync;
+            if (touched != null) {
+                touched.add(id);
+            }
+            if (counter == null) {
+                counter = new AtomicLong();
+            }
+            counter.updateAndGet(operator);
+            return counter;
+        });
+    }
+
+    private void publish(String employeeId) {
+        messagingTemplate.convertAndSend("/private/" + employeeId, Map.of("unreadCount", get(employeeId)));
+    }
+}
@@ -0,0 +1,3 @@
+-- 부서별 채팅 id 범위 조회용 복합 인덱스 (GET /api/chat/{departmentId}?since=, ?before=)
+-- ddl-auto 를 사용하지 않으므로 배포 전에 운영 DB(MySQL)에 직접 실행
+create index idx_chat_department_id on chat (department_id, id);
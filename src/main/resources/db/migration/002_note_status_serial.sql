@@ -0,0 +1,10 @@
+-- NoteStatus 번호 발급용 serial 행 (TABLE 전략, pooled-lo 방식)
+-- last_number 는 "마지막으로 발급한 번호" (다음 구간은 last_number + 1 부터) 이므로 기존 max(id) 이상이어야 함
+-- 이미 발급 중인 값이 더 크면 그대로 유지 (여러 번 실행해도 안전)
+insert into serial (ref, last_number)
+select 'note_status', 0 from dual
+where not exists (select 1 from serial where ref = 'note_status');
+
+update serial
+set last_number = greatest(last_number, (select coalesce(max(id), 0) from note_status))
+where ref = 'note_status';
@@ -0,0 +1,106 @@
+package org.codenova.groupwareback.cluster;
+
+import org.codenova.groupwareback.GroupwareBackApplication;
+import org.codenova.groupwareback.load.TestData;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.codenova.groupwareback.service.ChatRingBuffer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    여러 서버의 최근 채팅 보관소 검사 : 같은 DB 를 쓰는 애플리케이션 두 개(loopback 전달)를 실행해서
+    A 에 등록된 채팅이 B 의 보관소에도 들어가는지, 전달 중 유실된 채팅이 resync 로 DB에서 채워지는지 확인
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ClusterChatRingTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:cluster-chat;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    void start() {
+        nodeA = node("always");
+        nodeB = node("never");  // 스키마는 A 에서 생성
+
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("insert into department (id, name) values (1, '개발팀')");
+        jdbcTemplate.update("insert into employee (id, password, name, email, hire_date, department_id, position, active) " +
+                "values ('g-1', 'x', '사원1', 'g-1@codenova.org', '2024-03-02', 1, '사원', 'Y')");
+    }
+
+    @AfterAll
+    void stop() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void appendsChatsPostedOnPeer() throws Exception {
+        ChatRingBuffer ringB = nodeB.getBean(ChatRingBuffer.class);
+        ringB.recent(1, null);  // B 의 보관소를 먼저 채워 둠 (이후에는 DB 조회 없이 응답)
+
+        HttpResponse<String> response = post(nodeA, "A 에서 보낸 채팅");
+        assertThat(response.statusCode()).isEqualTo(201);
+
+        // DB 조회 없이 전달받은 메시지로 추가됨
+        assertThat(messages(ringB.recent(1, null))).contains("A 에서 보낸 채팅");
+    }
+
+    @Test
+    void resyncAddsChatsMissingFromDatabase() throws Exception {
+        ChatRingBuffer ringB = nodeB.getBean(ChatRingBuffer.class);
+        ringB.recent(1, null);
+
+        // 전달 중 유실된 채팅 (다른 서버가 DB에만 저장)
+        Long id = nodeA.getBean(JdbcTemplate.class).queryForObject(
+                "select coalesce(max(id), 0) + 1000 from chat", Long.class);
+        nodeA.getBean(JdbcTemplate.class).update(
+                "insert into chat (id, department_id, talker_id, message) values (?, 1, 'g-1', '유실된 채팅')", id);
+        assertThat(messages(ringB.recent(1, null))).doesNotContain("유실된 채팅");
+
+        ringB.resync();
+        assertThat(messages(ringB.recent(1, null))).contains("유실된 채팅");
+    }
+
+    // properties(...) 는 기본값(가장 낮은 우선순위)이라 h2 프로필 설정에 덮어써지므로 명령행 인자로 전달
+    private ConfigurableApplicationContext node(String sqlInit) {
+        return new SpringApplicationBuilder(GroupwareBackApplication.class)
+                .profiles("h2")
+                .run(
+                        "--spring.datasource.url=" + DB_URL,
+                        "--spring.sql.init.mode=" + sqlInit,
+                        "--server.port=0",
+                        "--management.server.port=0");
+    }
+
+    private HttpResponse<String> post(ConfigurableApplicationContext node, String message) throws Exception {
+        String port = node.getEnvironment().getProperty("local.server.port");
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/chat/1"))
+                .header("Authorization", "Bearer " + TestData.token("g-1"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"message\":\"" + message + "\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private List<String> messages(List<ChatMessage> chats) {
+        return chats.stream().map(ChatMessage::getMessage).toList();
+    }
+}
@@ -0,0 +1,136 @@
+package org.codenova.groupwareback.cluster;
+
+import org.codenova.groupwareback.GroupwareBackApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.net.DatagramSocket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    UDP 메시지 전달 검사 : 애플리케이션 두 개를 루프백 주소로 연결해서
+    한쪽에서 convertAndSend 한 메시지가 다른 쪽 브로커로 전달되는지, 서명이 다른 메시지는 무시되는지 확인
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class UdpMessageRelayTest {
+
+    private static final String SECRET = "relay-test-secret-0123456789";
+
+    private int portA;
+    private int portB;
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    // B 의 브로커 채널로 들어온 메시지 중 다른 서버에서 전달받은 것
+    private final BlockingQueue<Message<?>> relayedToB = new LinkedBlockingQueue<>();
+
+    @BeforeAll
+    void start() throws SocketException {
+        portA = freeUdpPort();
+        portB = freeUdpPort();
+        nodeA = node("relay-a", portA, portB);
+        nodeB = node("relay-b", portB, portA);
+
+        nodeB.getBean("brokerChannel", AbstractSubscribableChannel.class).addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (message.getHeaders().containsKey(RelayedMessage.ORIGIN_HEADER)) {
+                    relayedToB.add(message);
+                }
+                return message;
+            }
+        });
+    }
+
+    @AfterAll
+    void stop() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void deliversBrokerMessagesToPeer() throws Exception {
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/chat-department/1", Map.of("message", "안녕하세요"));
+
+        Message<?> received = relayedToB.poll(5, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(SimpMessageHeaderAccessor.getDestination(received.getHeaders())).isEqualTo("/chat-department/1");
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).contains("안녕하세요");
+    }
+
+    @Test
+    void ignoresFramesWithoutValidSignature() throws Exception {
+        relayedToB.clear();
+
+        // 서명 키가 다른 송신자 (외부에서 주입을 시도하는 상황)
+        UdpMessageRelay intruder = new UdpMessageRelay(freeUdpPort(), "127.0.0.1",
+                List.of("127.0.0.1:" + portB), "not-the-cluster-secret", Duration.ofSeconds(30));
+        try {
+            intruder.publish(new RelayedMessage("intruder", "/private/g-1", null,
+                    "{\"message\":\"spoofed\"}".getBytes(StandardCharsets.UTF_8)));
+            assertThat(relayedToB.poll(1, TimeUnit.SECONDS)).isNull();
+        } finally {
+            intruder.close();
+        }
+    }
+
+    @Test
+    void rejectsTamperedAndStaleFrames() throws Exception {
+        UdpMessageRelay relay = new UdpMessageRelay(freeUdpPort(), "127.0.0.1", List.of(), SECRET, Duration.ofSeconds(30));
+        UdpMessageRelay strict = new UdpMessageRelay(freeUdpPort(), "127.0.0.1", List.of(), SECRET, Duration.ofMillis(-1));
+        try {
+            byte[] frame = relay.encode(new RelayedMessage("a", "/public", null, "{}".getBytes(StandardCharsets.UTF_8)));
+            assertThat(relay.decode(frame)).isNotNull();
+
+            byte[] tampered = frame.clone();
+            tampered[12] ^= 1;
+            assertThat(relay.decode(tampered)).isNull();
+
+            // 허용 시각 차이를 벗어난 메시지 (재전송 공격)
+            assertThat(strict.decode(frame)).isNull();
+        } finally {
+            relay.close();
+            strict.close();
+        }
+    }
+
+    // properties(...) 는 기본값(가장 낮은 우선순위)이라 h2 프로필 설정에 덮어써지므로 명령행 인자로 전달
+    private ConfigurableApplicationContext node(String name, int port, int peerPort) {
+        return new SpringApplicationBuilder(GroupwareBackApplication.class)
+                .profiles("h2")
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--server.port=0",
+                        "--management.server.port=0",
+                        "--cluster.relay.mode=udp",
+                        "--cluster.relay.udp.bind-address=127.0.0.1",
+                        "--cluster.relay.udp.port=" + port,
+                        "--cluster.relay.udp.peers=127.0.0.1:" + peerPort,
+                        "--cluster.relay.udp.secret=" + SECRET);
+    }
+
+    private static int freeUdpPort() throws SocketException {
+        try (DatagramSocket socket = new DatagramSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.codenova.groupwareback.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.codenova.groupwareback.load.SyntheticData;
+import org.codenova.groupwareback.load.TestData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee-bulk;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "password.bcrypt.cost=4",
+        "employee.bulk.batch-size=2",
+        "rate-limit.rules.employee-bulk.capacity=100"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeBulkTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void seed() {
+        new SyntheticData(jdbcTemplate).departments(3);
+
+        // 일괄 등록 권한이 있는 직책(팀장) / 없는 직책(사원)
+        jdbcTemplate.update("insert into employee (id, password, name, email, hire_date, department_id, position, active) " +
+                "values ('g-900', 'x', '관리자', 'admin@codenova.org', '2020-01-01', 1, '팀장', 'Y')");
+        jdbcTemplate.update("insert into employee (id, password, name, email, hire_date, department_id, position, active) " +
+                "values ('g-901', 'x', '일반사원', 'staff@codenova.org', '2020-01-01', 1, '사원', 'Y')");
+    }
+
+    @Test
+    void requiresAuthenticatedAllowedPosition() throws Exception {
+        long before = lastSerial();
+        String csv = "name,email,hireDate,position,departmentId\n김사원,kim2@codenova.org,2024-03-02,사원,1\n";
+
+        int anonymous = mockMvc.perform(post("/api/employee/bulk")
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andReturn().getResponse().getStatus();
+        int staff = mockMvc.perform(post("/api/employee/bulk")
+                        .header("Authorization", "Bearer " + TestData.token("g-901"))
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andReturn().getResponse().getStatus();
+
+        assertThat(anonymous).isEqualTo(401);
+        assertThat(staff).isEqualTo(403);
+        assertThat(lastSerial()).isEqualTo(before);
+    }
+
+    @Test
+    void registersValidCsvRowsAndReportsEachLine() throws Exception {
+        long before = lastSerial();
+        String csv = """
+                name,email,hireDate,position,departmentId
+                김사원,kim@codenova.org,2024-03-02,사원,1
+                ,missing-name@codenova.org,2024-03-02,사원,1
+
+                "이, 팀장","lee@codenova.org",2023-01-01,\"""팀장\""",2
+                박사원,not-an-email,2024-03-02,사원,1
+                최사원,choi@codenova.org,2024-03-02,사원,99
+                """;
+
+        JsonNode result = bulk("text/csv", csv);
+
+        assertThat(result.get("total").asInt()).isEqualTo(5);
+        assertThat(result.get("created").asInt()).isEqualTo(2);
+        assertThat(statuses(result)).containsExactly("created", "invalid", "created", "invalid", "invalid");
+        assertThat(result.at("/rows/1/line").asInt()).isEqualTo(3);
+        assertThat(result.at("/rows/1/errors/0").asText()).startsWith("name");
+        assertThat(result.at("/rows/4/errors/0").asText()).startsWith("departmentId");
+
+        // 통과한 행 수만큼 번호 구간을 한 번에 예약
+        assertThat(lastSerial()).isEqualTo(before + 2);
+        assertThat(result.at("/rows/0/id").asText()).isEqualTo("g-" + (before + 1));
+        assertThat(result.at("/rows/2/id").asText()).isEqualTo("g-" + (before + 2));
+
+        String id = result.at("/rows/2/id").asText();
+        assertThat(jdbcTemplate.queryForObject("select name from employee where id = ?", String.class, id))
+                .isEqualTo("이, 팀장");
+        assertThat(jdbcTemplate.queryForObject("select position from employee where id = ?", String.class, id))
+                .isEqualTo("\"팀장\"");
+        String hash = jdbcTemplate.queryForObject("select password from employee where id = ?", String.class, id);
+        assertThat(BCrypt.checkpw("0000", hash)).isTrue();
+    }
+
+    @Test
+    void marksOnlyTheFailedBatchWhenInsertFails() throws Exception {
+        // 이름이 컬럼 길이(100)를 넘는 행은 유효성 검사는 통과하지만 저장에 실패 -> 같은 배치(2건)만 실패
+        String jsonLines = String.join("\n",
+                "{\"name\":\"사원A\",\"email\":\"a@codenova.org\",\"hireDate\":\"2024-01-01\",\"departmentId\":1}",
+                "{\"name\":\"사원B\",\"email\":\"b@codenova.org\",\"hireDate\":\"2024-01-01\",\"departmentId\":1}",
+                "{\"name\":\"사원C\",\"email\":\"c@codenova.org\",\"hireDate\":\"2024-01-01\",\"departmentId\":2}",
+                "{\"name\":\"" + "가".repeat(150) + "\",\"email\":\"d@codenova.org\",\"departmentId\":2}",
+                "{\"name\":\"사원E\",\"email\":\"e@codenova.org\",\"departmentId\":3}",
+                "{\"name\":");
+
+        JsonNode result = bulk("application/x-ndjson", jsonLines);
+
+        assertThat(statuses(result)).containsExactly("created", "created", "failed", "failed", "created", "invalid");
+        assertThat(result.get("rejected").asInt()).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from employee where email = 'c@codenova.org'", Integer.class)).isZero();
+    }
+
+    private JsonNode bulk(String contentType, String body) throws Exception {
+        String response = mockMvc.perform(post("/api/employee/bulk")
+                        .header("Authorization", "Bearer " + TestData.token("g-900"))
+                        .contentType(contentType)
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response);
+    }
+
+    private List<String> statuses(JsonNode result) {
+        List<String> statuses = new ArrayList<>();
+        result.get("rows").forEach((row) -> statuses.add(row.get("status").asText()));
+        return statuses;
+    }
+
+    private long lastSerial() {
+        return jdbcTemplate.queryForObject("select last_number from serial where ref = 'employee'", Long.class);
+    }
+}
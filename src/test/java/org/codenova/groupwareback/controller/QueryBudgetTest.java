@@ -0,0 +1,148 @@
+package org.codenova.groupwareback.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.codenova.groupwareback.load.TestData;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/*
+    API 별 쿼리 수 상한 검사 (Hibernate statistics 기준)
+    목록 API 에서 행마다 연관 엔티티 조회가 추가로 발생(N+1)하면 상한을 넘어 실패한다.
+    데이터 건수를 늘려도 쿼리 수는 그대로여야 하므로 상한은 데이터 건수와 무관한 상수로 지정
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "password.bcrypt.cost=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    private static final int DEPARTMENTS = 5;
+    private static final int EMPLOYEES = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        TestData.seed(context, (data) -> {
+            data.departments(DEPARTMENTS);
+            data.employees(EMPLOYEES, DEPARTMENTS, BCrypt.hashpw("0000", BCrypt.gensalt(4)));
+            data.notes(200, 3, EMPLOYEES);
+            data.chats(300, DEPARTMENTS, EMPLOYEES);
+            data.boards(100, EMPLOYEES);
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listEndpointsStayWithinBudget() throws Exception {
+        String subject = busiestReceiver();
+        String token = TestData.token(subject);
+
+        // 인증 사용자 캐시를 먼저 채워서 측정 대상 요청에는 포함되지 않도록 함
+        mockMvc.perform(authorized(get("/api/note/unread-count"), token));
+
+        Map<String, Integer> budgets = Map.of(
+                "/api/board?size=20", 1,
+                "/api/board?p=1", 1,
+                "/api/board/1", 1,
+                "/api/board/search?q=" + firstWord(), 1,
+                "/api/note/inBox", 1,
+                "/api/note/outBox?size=20", 2,     // 목록 + 전체 건수
+                "/api/chat/1?before=200", 1);
+
+        for (Map.Entry<String, Integer> budget : budgets.entrySet()) {
+            expectQueries(budget.getKey(), budget.getValue(), authorized(get(budget.getKey()), token));
+        }
+
+        // 최근 채팅 : 처음 한 번만 부서 확인 + 최근 채팅 조회, 이후에는 메모리에서 응답
+        expectQueries("/api/chat/2", 2, authorized(get("/api/chat/2"), token));
+        expectQueries("/api/chat/2 (cached)", 0, authorized(get("/api/chat/2"), token));
+        expectQueries("/api/chat/2?since=0", 1, authorized(get("/api/chat/2?since=0"), token));
+
+        expectQueries("/api/employee", 1, get("/api/employee"));
+        expectQueries("/api/employee/" + subject, 1, get("/api/employee/" + subject));
+    }
+
+    @Test
+    void singleRowEndpointsStayWithinBudget() throws Exception {
+        Map<String, Object> unread = jdbcTemplate.queryForMap(
+                "select id, receiver_id from note_status where is_read = false order by id limit 1");
+        String token = TestData.token((String) unread.get("receiver_id"));
+        mockMvc.perform(authorized(get("/api/note/unread-count"), token));
+
+        // 읽음 처리 : 상태 + 쪽지 + 보낸 사원 조회 1번, update 1번
+        expectQueries("PUT /api/note/status", 2,
+                authorized(put("/api/note/status/" + unread.get("id")), token));
+
+        // 로그인 : 사원 + 부서 조회 1번
+        expectQueries("POST /api/employee/verify", 1, post("/api/employee/verify")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\":\"g-1\",\"password\":\"0000\"}"));
+    }
+
+    // 요청 한 번에 실행된 JDBC 문장 수가 상한 이하인지 검사
+    private void expectQueries(String name, int budget, RequestBuilder request) throws Exception {
+        statistics.clear();
+        int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+        long executed = statistics.getPrepareStatementCount();
+
+        assertThat(status).as(name + " status").isLessThan(400);
+        assertThat(executed)
+                .as("%s : 쿼리 %d회 실행 (상한 %d) %s", name, executed, budget, Arrays.toString(statistics.getQueries()))
+                .isLessThanOrEqualTo(budget);
+    }
+
+    private MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request, String token) {
+        return request.header("Authorization", "Bearer " + token);
+    }
+
+    // 받은 쪽지가 가장 많은 사원 (N+1 이 있으면 쿼리 수 차이가 가장 크게 나타남)
+    private String busiestReceiver() {
+        return jdbcTemplate.queryForObject(
+                "select receiver_id from note_status group by receiver_id order by count(*) desc limit 1", String.class);
+    }
+
+    private String firstWord() {
+        String title = jdbcTemplate.queryForObject("select title from board where id = 1", String.class);
+        return title.split(" ")[0];
+    }
+}
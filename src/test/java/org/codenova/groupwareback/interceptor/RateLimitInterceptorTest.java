@@ -0,0 +1,101 @@
+package org.codenova.groupwareback.interceptor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codenova.groupwareback.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitInterceptorTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitInterceptor interceptor = new RateLimitInterceptor(properties(), meterRegistry, now::get);
+
+    @Test
+    void rejectsBeyondBurstWithRetryAfter() throws Exception {
+        // 10초에 5건 -> 한 번에 5건, 이후 2초마다 1건
+        for (int i = 0; i < 5; i++) {
+            assertThat(handle("POST", "/api/chat/1", "g-1").getStatus()).isEqualTo(200);
+        }
+
+        MockHttpServletResponse rejected = handle("POST", "/api/chat/1", "g-1");
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(meterRegistry.get("rate-limit.rejected").tag("rule", "chat").counter().count()).isEqualTo(1);
+
+        // 2초 후 토큰 1개가 다시 채워짐
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertThat(handle("POST", "/api/chat/1", "g-1").getStatus()).isEqualTo(200);
+        assertThat(handle("POST", "/api/chat/1", "g-1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    void limitsEachEmployeeAndRouteSeparately() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            handle("POST", "/api/chat/1", "g-1");
+        }
+        assertThat(handle("POST", "/api/chat/1", "g-1").getStatus()).isEqualTo(429);
+
+        // 다른 사원 / 규칙이 없는 조회 API 는 영향 없음
+        assertThat(handle("POST", "/api/chat/1", "g-2").getStatus()).isEqualTo(200);
+        assertThat(handle("GET", "/api/chat/1", "g-1").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void matchesTheResolvedPathNotTheRawUri() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            assertThat(handle("POST", "/api/note", "g-1").getStatus()).isEqualTo(200);
+        }
+
+        // 컨트롤러는 같은 API 로 처리하는 경로 파라미터 / 인코딩 / context path 변형도 같은 규칙으로 제한
+        assertThat(handle("POST", "/api/note;x=1", "g-1").getStatus()).isEqualTo(429);
+        assertThat(handle("POST", "/api/%6Eote", "g-1").getStatus()).isEqualTo(429);
+        for (int i = 0; i < 5; i++) {
+            handle("POST", "/api/chat;x=1/1;y=2", "g-3");
+        }
+        assertThat(handle("POST", "/api/chat/1", "g-3").getStatus()).isEqualTo(429);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/groupware/api/note");
+        request.setContextPath("/groupware");
+        request.setAttribute("subject", "g-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        assertThat(response.getStatus()).isEqualTo(429);
+
+        assertThat(meterRegistry.get("rate-limit.rejected").tag("rule", "note").counter().count()).isEqualTo(3);
+    }
+
+    private MockHttpServletResponse handle(String method, String uri, String subject) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setAttribute("subject", subject);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, new Object());
+        return response;
+    }
+
+    private RateLimitProperties properties() {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setMethod("POST");
+        rule.setPattern("/api/chat/*");
+        rule.setCapacity(5);
+        rule.setPeriod(Duration.ofSeconds(10));
+
+        RateLimitProperties.Rule note = new RateLimitProperties.Rule();
+        note.setMethod("POST");
+        note.setPattern("/api/note");
+        note.setCapacity(2);
+        note.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRules().put("chat", rule);
+        properties.getRules().put("note", note);
+        return properties;
+    }
+}
@@ -0,0 +1,219 @@
+package org.codenova.groupwareback.load;
+
+import org.codenova.groupwareback.GroupwareBackApplication;
+import org.junit.jupiter.api.Test;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    실행 방식 비교 : 플랫폼 스레드(톰캣 기본 200개 + 채널 스레드 풀) vs 가상 스레드 (spring.threads.virtual.enabled)
+    같은 가상 데이터로 애플리케이션을 두 번 실행해서 HTTP API 와 STOMP 채팅 전달의 처리량 / 지연시간 백분위를 출력한다.
+    - HTTP : HttpLoadSuite 와 같은 조회 API 를 동시 클라이언트로 반복 호출
+    - STOMP : 구독자들이 /chat-department/1 을 구독한 상태에서 채팅을 계속 등록하고,
+              등록 요청 시각부터 각 구독자가 메시지를 받을 때까지의 시간을 측정
+    기본 테스트 실행에는 포함되지 않음 :
+        ./mvnw test -Dtest=ExecutionModeBenchmark [-Dload.scale=0.05] [-Dload.clients=256] [-Dload.seconds=10]
+        [-Dbenchmark.subscribers=200]
+ */
+class ExecutionModeBenchmark {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("load.scale", "0.05"));
+    private static final int CLIENTS = Integer.getInteger("load.clients", 256);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 10);
+    private static final int SUBSCRIBERS = Integer.getInteger("benchmark.subscribers", 200);
+
+    private static final int DEPARTMENTS = 50;
+    private static final int EMPLOYEES = scaled(10_000);
+    private static final int NOTES = scaled(1_000_000);
+    private static final int CHATS = scaled(500_000);
+    private static final int BOARDS = scaled(100_000);
+    private static final int TOKENS = Math.min(200, EMPLOYEES);
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern SENT_AT = Pattern.compile("\"message\"\\s*:\\s*\"(\\d+)\"");
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        for (boolean virtualThreads : new boolean[]{false, true}) {
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                System.out.printf("%n== %s ==%n", virtualThreads ? "virtual threads" : "platform threads");
+                new Node(context).run();
+            }
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtualThreads) {
+        String name = virtualThreads ? "virtual" : "platform";
+        return new SpringApplicationBuilder(GroupwareBackApplication.class)
+                .profiles("h2")
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:mode-" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "password.bcrypt.cost=4",
+                        // 측정 중 요청 수 제한에 걸리지 않도록 채팅 등록 제한 해제
+                        "rate-limit.rules.chat.capacity=100000000")
+                .run();
+    }
+
+    // 실행 중인 애플리케이션 하나에 대한 측정
+    private class Node {
+        private final int port;
+        private final List<String> tokens = new ArrayList<>();
+
+        private Node(ConfigurableApplicationContext context) throws Exception {
+            this.port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+
+            TestData.seed(context, (data) -> {
+                data.departments(DEPARTMENTS);
+                data.employees(EMPLOYEES, DEPARTMENTS, BCrypt.hashpw("0000", BCrypt.gensalt(4)));
+                data.notes(NOTES, 2, EMPLOYEES);
+                data.chats(CHATS, DEPARTMENTS, EMPLOYEES);
+                data.boards(BOARDS, EMPLOYEES);
+            });
+
+            for (int i = 1; i <= TOKENS; i++) {
+                HttpResponse<String> response = client.send(login("g-" + i), HttpResponse.BodyHandlers.ofString());
+                Matcher matcher = TOKEN.matcher(response.body());
+                if (matcher.find()) {
+                    tokens.add(matcher.group(1));
+                }
+            }
+        }
+
+        private void run() throws Exception {
+            LoadDriver driver = new LoadDriver(client, CLIENTS, SECONDS);
+
+            // 워밍업 (JIT / 커넥션 풀)
+            driver.drive("warm-up", (random) -> get("/api/board?size=10"));
+
+            LoadDriver.printHeader();
+            driver.drive("GET /api/board", (random) -> get("/api/board?size=10&after=" + (1 + random.nextInt(BOARDS + 1))));
+            driver.drive("GET /api/note/inBox", (random) -> get("/api/note/inBox"));
+            driver.drive("GET /api/chat/{id}", (random) -> get("/api/chat/" + (1 + random.nextInt(DEPARTMENTS))));
+            stomp();
+        }
+
+        // 채팅 등록 -> STOMP 구독자 전달 지연시간
+        private void stomp() throws Exception {
+            WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+            List<Subscriber> subscribers = new ArrayList<>();
+            List<StompSession> sessions = new ArrayList<>();
+            try {
+                for (int i = 0; i < SUBSCRIBERS; i++) {
+                    StompHeaders connectHeaders = new StompHeaders();
+                    connectHeaders.add("Authorization", "Bearer " + tokens.get(i % tokens.size()));
+                    StompSession session = stompClient.connectAsync("ws://localhost:" + port + "/handshake",
+                            new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                            }).get(10, TimeUnit.SECONDS);
+
+                    Subscriber subscriber = new Subscriber();
+                    session.subscribe("/chat-department/1", subscriber);
+                    subscribers.add(subscriber);
+                    sessions.add(session);
+                }
+                Thread.sleep(500);  // 구독 등록 대기
+
+                // 본문에 등록 요청 시각(ns)을 담아서 전송
+                new LoadDriver(client, CLIENTS, SECONDS).drive("POST /api/chat (sender)",
+                        (random) -> post("/api/chat/1", "{\"message\":\"" + System.nanoTime() + "\"}"));
+                Thread.sleep(1000);  // 남은 메시지 수신 대기
+
+                long[] deliveries = subscribers.stream()
+                        .flatMapToLong((subscriber) -> Arrays.stream(subscriber.latencies()))
+                        .toArray();
+                LoadDriver.report("STOMP delivery x" + SUBSCRIBERS, deliveries, 0, SECONDS);
+            } finally {
+                sessions.forEach(StompSession::disconnect);
+                stompClient.stop();
+            }
+        }
+
+        private HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Authorization", "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+        }
+
+        private HttpRequest post(String path, String json) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Authorization", "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString(json))
+                    .build();
+        }
+
+        private HttpRequest login(String id) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employee/verify"))
+                    .header("Content-Type", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"id\":\"" + id + "\",\"password\":\"0000\"}"))
+                    .build();
+        }
+    }
+
+    // 받은 채팅마다 등록 요청 시각과의 차이 기록 (세션별 메시지는 한 스레드에서 순서대로 처리됨)
+    private static class Subscriber implements StompFrameHandler {
+        private long[] latencies = new long[1024];
+        private int count;
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public synchronized void handleFrame(StompHeaders headers, Object payload) {
+            long now = System.nanoTime();
+            Matcher matcher = SENT_AT.matcher(new String((byte[]) payload, StandardCharsets.UTF_8));
+            if (!matcher.find()) {
+                return;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = now - Long.parseLong(matcher.group(1));
+        }
+
+        private synchronized long[] latencies() {
+            return Arrays.copyOf(latencies, count);
+        }
+    }
+
+    private static int scaled(int count) {
+        return Math.max(1, (int) (count * SCALE));
+    }
+}
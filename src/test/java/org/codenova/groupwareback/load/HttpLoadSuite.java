@@ -0,0 +1,120 @@
+package org.codenova.groupwareback.load;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+    HTTP 부하 테스트 (내장 H2 MySQL 모드, 네트워크 연결 불필요)
+    가상 데이터를 채운 뒤 주요 API 를 동시 요청으로 호출하고 API 별 처리량 / 지연시간 백분위를 출력한다.
+    기본 테스트 실행에는 포함되지 않음 :
+        ./mvnw test -Dtest=HttpLoadSuite [-Dload.scale=0.1] [-Dload.clients=64] [-Dload.seconds=15]
+    load.scale=1 기준 : 사원 10,000 / 부서 200 / 쪽지 1,000,000 (수신 상태 2,000,000) / 채팅 500,000 / 게시글 100,000
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HttpLoadSuite {
+
+    private static final double SCALE = Double.parseDouble(System.getProperty("load.scale", "1"));
+    private static final int CLIENTS = Integer.getInteger("load.clients", 64);
+    private static final int SECONDS = Integer.getInteger("load.seconds", 15);
+
+    private static final int DEPARTMENTS = 200;
+    private static final int EMPLOYEES = scaled(10_000);
+    private static final int NOTES = scaled(1_000_000);
+    private static final int CHATS = scaled(500_000);
+    private static final int BOARDS = scaled(100_000);
+    private static final int TOKENS = Math.min(200, EMPLOYEES);
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${password.bcrypt.cost:10}")
+    private int cost;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final List<String> tokens = new ArrayList<>();
+
+    @BeforeAll
+    void seed() throws Exception {
+        long start = System.currentTimeMillis();
+        TestData.seed(context, (data) -> {
+            data.departments(DEPARTMENTS);
+            data.employees(EMPLOYEES, DEPARTMENTS, BCrypt.hashpw("0000", BCrypt.gensalt(cost)));
+            data.notes(NOTES, 2, EMPLOYEES);
+            data.chats(CHATS, DEPARTMENTS, EMPLOYEES);
+            data.boards(BOARDS, EMPLOYEES);
+        });
+        System.out.printf("seed : employees=%d, notes=%d, chats=%d, boards=%d (%ds)%n",
+                EMPLOYEES, NOTES, CHATS, BOARDS, (System.currentTimeMillis() - start) / 1000);
+
+        for (int i = 1; i <= TOKENS; i++) {
+            HttpResponse<String> response = client.send(login("g-" + i), HttpResponse.BodyHandlers.ofString());
+            Matcher matcher = TOKEN.matcher(response.body());
+            if (matcher.find()) {
+                tokens.add(matcher.group(1));
+            }
+        }
+    }
+
+    @Test
+    void run() throws Exception {
+        LoadDriver driver = new LoadDriver(client, CLIENTS, SECONDS);
+        LoadDriver.printHeader();
+
+        driver.drive("GET /api/board", (random) -> get("/api/board?size=10&after=" + (1 + random.nextInt(BOARDS + 1))));
+        driver.drive("GET /api/note/inBox", (random) -> get("/api/note/inBox"));
+        driver.drive("GET /api/note/outBox", (random) -> get("/api/note/outBox"));
+        driver.drive("GET /api/chat/{id}", (random) -> get("/api/chat/" + (1 + random.nextInt(DEPARTMENTS))));
+        driver.drive("POST /api/employee/verify", (random) -> login("g-" + (1 + random.nextInt(EMPLOYEES))));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + tokens.get(ThreadLocalRandom.current().nextInt(tokens.size())))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest login(String id) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employee/verify"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString("{\"id\":\"" + id + "\",\"password\":\"0000\"}"))
+                .build();
+    }
+
+    private static int scaled(int count) {
+        return Math.max(1, (int) (count * SCALE));
+    }
+}
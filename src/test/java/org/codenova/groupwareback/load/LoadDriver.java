@@ -0,0 +1,93 @@
+package org.codenova.groupwareback.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/*
+    부하 테스트 공통 : 동시 클라이언트로 반복 요청을 보내고 처리량 / 지연시간 백분위를 한 줄로 출력
+    (HttpLoadSuite, ExecutionModeBenchmark 에서 사용)
+ */
+public class LoadDriver {
+
+    private final HttpClient client;
+    private final int clients;
+    private final int seconds;
+
+    public LoadDriver(HttpClient client, int clients, int seconds) {
+        this.client = client;
+        this.clients = clients;
+        this.seconds = seconds;
+    }
+
+    public static void printHeader() {
+        System.out.printf("%-30s %9s %7s %9s %7s %7s %7s %7s%n",
+                "endpoint", "requests", "errors", "req/s", "p50", "p95", "p99", "max");
+    }
+
+    // clients 개의 동시 클라이언트가 seconds 동안 반복 요청
+    public void drive(String name, Function<ThreadLocalRandom, HttpRequest> requests) throws InterruptedException {
+        long[][] results = new long[clients][];
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int c = 0; c < clients; c++) {
+            int index = c;
+            executor.execute(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(requests.apply(random), HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - begin;
+                }
+                results[index] = Arrays.copyOf(latencies, count);
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        long[] all = Arrays.stream(results)
+                .filter(Objects::nonNull)
+                .flatMapToLong(Arrays::stream)
+                .toArray();
+        report(name, all, errors.get(), seconds);
+    }
+
+    // 지연시간(ns) 목록으로 처리량 / 백분위 출력
+    public static void report(String name, long[] latencies, long errors, int seconds) {
+        if (latencies.length == 0) {
+            System.out.printf("%-30s no requests completed%n", name);
+            return;
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-30s %9d %7d %9.0f %5dms %5dms %5dms %5dms%n",
+                name, sorted.length, errors, sorted.length / (double) seconds,
+                millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), sorted[sorted.length - 1] / 1_000_000);
+    }
+
+    private static long millis(long[] sorted, double percentile) {
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * percentile))] / 1_000_000;
+    }
+}
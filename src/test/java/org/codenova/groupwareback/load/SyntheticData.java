@@ -0,0 +1,134 @@
+package org.codenova.groupwareback.load;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/*
+    부하 테스트용 가상 데이터 생성기
+    JDBC 배치 insert 로 부서 / 사원 / 쪽지(+수신 상태) / 채팅 / 게시글을 채운다.
+    사원 비밀번호는 미리 만든 해시 하나를 모든 사원이 같이 사용 (BCrypt 비용 절약)
+ */
+public class SyntheticData {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[] WORDS = {"회의", "예약", "공지", "휴가", "출장", "보고서", "일정", "점심", "교육", "안내",
+            "프로젝트", "마감", "검토", "요청", "결재", "부서", "회식", "채용", "인사", "평가", "확인", "부탁드립니다"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    public SyntheticData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void departments(int count) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{i, "부서" + i});
+        }
+        insert("insert into department (id, name) values (?, ?)", rows);
+    }
+
+    // 사원 ID 는 g-1 ~ g-count
+    public void employees(int count, int departments, String passwordHash) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{"g-" + i, passwordHash, "사원" + i, "employee" + i + "@codenova.org",
+                    Date.valueOf(LocalDate.of(2020, 1, 1).plusDays(i % 1500)),
+                    1 + i % departments, i % 10 == 0 ? "팀장" : "사원", "Y"});
+            rows = flush("insert into employee (id, password, name, email, hire_date, department_id, position, active) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        }
+        insert("insert into employee (id, password, name, email, hire_date, department_id, position, active) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.update("update serial set last_number = ? where ref = 'employee'", count);
+    }
+
+    // 쪽지마다 recipients 명에게 보낸 수신 상태 생성 (절반은 읽음 처리)
+    public void notes(int count, int recipients, int employees) {
+        List<Object[]> notes = new ArrayList<>();
+        List<Object[]> statuses = new ArrayList<>();
+        long statusId = 0;
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+        for (int i = 1; i <= count; i++) {
+            notes.add(new Object[]{(long) i, employeeId(employees), sentence(12),
+                    Timestamp.valueOf(base.plusMinutes(i)), false});
+            for (int r = 0; r < recipients; r++) {
+                boolean read = random.nextBoolean();
+                statuses.add(new Object[]{++statusId, employeeId(employees), (long) i, read,
+                        read ? Timestamp.valueOf(base.plusMinutes(i + 30)) : null, false});
+            }
+            notes = flush("insert into note (id, sender_id, content, send_at, is_delete) values (?, ?, ?, ?, ?)", notes);
+            statuses = flush("insert into note_status (id, receiver_id, note_id, is_read, read_at, is_delete) " +
+                    "values (?, ?, ?, ?, ?, ?)", statuses);
+        }
+        insert("insert into note (id, sender_id, content, send_at, is_delete) values (?, ?, ?, ?, ?)", notes);
+        insert("insert into note_status (id, receiver_id, note_id, is_read, read_at, is_delete) " +
+                "values (?, ?, ?, ?, ?, ?)", statuses);
+
+        jdbcTemplate.update("alter table note alter column id restart with " + (count + 1));
+        // note_status 는 마지막으로 발급한 번호를 저장 (다음 구간은 + 1 부터)
+        jdbcTemplate.update("update serial set last_number = ? where ref = 'note_status'", statusId);
+    }
+
+    public void chats(int count, int departments, int employees) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{(long) i, 1 + random.nextInt(departments), employeeId(employees), sentence(6)});
+            rows = flush("insert into chat (id, department_id, talker_id, message) values (?, ?, ?, ?)", rows);
+        }
+        insert("insert into chat (id, department_id, talker_id, message) values (?, ?, ?, ?)", rows);
+        jdbcTemplate.update("alter table chat alter column id restart with " + (count + 1));
+        jdbcTemplate.update("update serial set last_number = ? where ref = 'chat'", count);
+    }
+
+    public void boards(int count, int employees) {
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{(long) i, employeeId(employees), sentence(4), sentence(80), random.nextInt(500),
+                    Timestamp.valueOf(base.plusMinutes(i * 7L))});
+            rows = flush("insert into board (id, writer_id, title, content, view_count, wrote_at) values (?, ?, ?, ?, ?, ?)", rows);
+        }
+        insert("insert into board (id, writer_id, title, content, view_count, wrote_at) values (?, ?, ?, ?, ?, ?)", rows);
+        jdbcTemplate.update("alter table board alter column id restart with " + (count + 1));
+    }
+
+    private String employeeId(int employees) {
+        return "g-" + (1 + random.nextInt(employees));
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    // 배치 크기가 차면 insert 후 새 목록 반환
+    private List<Object[]> flush(String sql, List<Object[]> rows) {
+        if (rows.size() < BATCH_SIZE) {
+            return rows;
+        }
+        insert(sql, rows);
+        return new ArrayList<>();
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+    }
+}
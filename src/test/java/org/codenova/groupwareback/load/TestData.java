@@ -0,0 +1,39 @@
+package org.codenova.groupwareback.load;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.codenova.groupwareback.service.BoardSearchIndex;
+import org.codenova.groupwareback.service.UnreadNoteCounter;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.function.Consumer;
+
+/*
+    테스트 공통 도우미
+    - token : h2 프로필의 secret 으로 서명한 토큰 (로그인 API 를 거치지 않고 인증이 필요한 API 호출)
+    - seed : 가상 데이터를 채운 뒤 시작 시점에 비어 있던 메모리 데이터(읽지 않은 쪽지 수, 게시판 검색 색인)를 다시 생성
+ */
+public final class TestData {
+
+    private static final String SECRET = "test-secret";
+
+    private TestData() {
+    }
+
+    public static String token(String subject) {
+        return JWT.create()
+                .withIssuer("groupware")
+                .withSubject(subject)
+                .sign(Algorithm.HMAC256(SECRET));
+    }
+
+    public static SyntheticData seed(ApplicationContext context, Consumer<SyntheticData> rows) {
+        SyntheticData data = new SyntheticData(context.getBean(JdbcTemplate.class));
+        rows.accept(data);
+
+        context.getBean(UnreadNoteCounter.class).rebuild();
+        context.getBean(BoardSearchIndex.class).rebuild();
+        return data;
+    }
+}
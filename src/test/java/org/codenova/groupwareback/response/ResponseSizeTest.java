@@ -0,0 +1,171 @@
+package org.codenova.groupwareback.response;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.codenova.groupwareback.load.TestData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/*
+    응답 크기 검사 : 가상 데이터를 채운 뒤 실제 API 응답(MockMvc)의 바이트 수를
+    같은 행들을 엔티티 그대로(연관 엔티티 포함) 직렬화했을 때의 바이트 수와 비교
+    엔티티 쪽은 fetch join 으로 읽어서 예전 응답처럼 작성자 / 수신자 / 부서까지 모두 포함된 상태로 직렬화
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:response-size;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "password.bcrypt.cost=4"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResponseSizeTest {
+
+    private static final int DEPARTMENTS = 5;
+    private static final int EMPLOYEES = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private final String passwordHash = BCrypt.hashpw("0000", BCrypt.gensalt(4));
+
+    @BeforeAll
+    void seed() {
+        TestData.seed(context, (data) -> {
+            data.departments(DEPARTMENTS);
+            data.employees(EMPLOYEES, DEPARTMENTS, passwordHash);
+            data.notes(400, 3, EMPLOYEES);
+            data.chats(300, DEPARTMENTS, EMPLOYEES);
+            data.boards(100, EMPLOYEES);
+        });
+    }
+
+    @Test
+    void receivedNotesOmitReceiverAndPassword() throws Exception {
+        String receiver = jdbcTemplate.queryForObject(
+                "select receiver_id from note_status group by receiver_id order by count(*) desc limit 1", String.class);
+
+        byte[] dtoJson = body("/api/note/inBox", receiver);
+        byte[] entityJson = entities((entityManager) -> entityManager.createQuery(
+                        "select s from NoteStatus s join fetch s.receiver r join fetch r.department " +
+                                "join fetch s.note n left join fetch n.sender e left join fetch e.department " +
+                                "where r.id = :receiverId order by s.id desc", Object.class)
+                .setParameter("receiverId", receiver)
+                .getResultList());
+
+        compare("inBox", dtoJson, entityJson);
+    }
+
+    @Test
+    void boardSummariesOmitWriterAndContent() throws Exception {
+        byte[] dtoJson = body("/api/board?size=20", "g-1");
+        byte[] entityJson = entities((entityManager) -> entityManager.createQuery(
+                        "select b from Board b left join fetch b.writer w left join fetch w.department " +
+                                "order by b.id desc", Object.class)
+                .setMaxResults(20)
+                .getResultList());
+
+        compare("board 20건", dtoJson, entityJson);
+        assertThat(new String(dtoJson, StandardCharsets.UTF_8)).doesNotContain("\"content\"");
+    }
+
+    @Test
+    void chatMessagesOmitDepartmentAndTalkerDetails() throws Exception {
+        byte[] dtoJson = body("/api/chat/1?before=301&size=50", "g-1");
+        byte[] entityJson = entities((entityManager) -> entityManager.createQuery(
+                        "select c from Chat c join fetch c.department d left join fetch c.talker t " +
+                                "left join fetch t.department where d.id = 1 order by c.id desc", Object.class)
+                .setMaxResults(50)
+                .getResultList());
+
+        compare("chat 50건", dtoJson, entityJson);
+    }
+
+    @Test
+    void employeeProfilesOmitPassword() throws Exception {
+        byte[] dtoJson = body("/api/employee", "g-1");
+        byte[] entityJson = entities((entityManager) -> entityManager.createQuery(
+                        "select e from Employee e left join fetch e.department order by e.id", Object.class)
+                .getResultList());
+
+        // 사원 목록은 비밀번호만 빠지므로 절반까지 줄지는 않음
+        assertThat(rows(dtoJson)).isEqualTo(rows(entityJson)).isEqualTo(EMPLOYEES);
+        assertThat(dtoJson.length).isLessThan(entityJson.length);
+        assertThat(new String(entityJson, StandardCharsets.UTF_8)).contains(passwordHash);
+        assertThat(new String(dtoJson, StandardCharsets.UTF_8)).doesNotContain("password").doesNotContain(passwordHash);
+    }
+
+    @Test
+    void loginResultOmitsPassword() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/employee/verify")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\":\"g-4\",\"password\":\"0000\"}"))
+                .andReturn();
+        String json = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(json).contains("\"id\":\"g-4\"").contains("\"departmentName\":\"부서");
+        assertThat(json).doesNotContain("password").doesNotContain(passwordHash);
+    }
+
+    // 같은 행 수의 응답이 엔티티 직렬화의 절반 미만이고 비밀번호가 포함되지 않는지 검사
+    private void compare(String label, byte[] dtoJson, byte[] entityJson) throws Exception {
+        assertThat(rows(dtoJson)).as(label + " 행 수").isPositive().isEqualTo(rows(entityJson));
+        assertThat(dtoJson.length).as(label + " 응답 크기").isLessThan(entityJson.length / 2);
+        assertThat(new String(entityJson, StandardCharsets.UTF_8)).contains(passwordHash);
+        assertThat(new String(dtoJson, StandardCharsets.UTF_8)).doesNotContain("password").doesNotContain(passwordHash);
+    }
+
+    private byte[] body(String uri, String subject) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).header("Authorization", "Bearer " + TestData.token(subject))).andReturn();
+        assertThat(result.getResponse().getStatus()).as(uri).isEqualTo(200);
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    // 새 영속성 컨텍스트에서 fetch join 으로 읽은 엔티티를 MVC 와 같은 ObjectMapper 로 직렬화
+    private byte[] entities(Function<EntityManager, List<Object>> query) throws Exception {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return objectMapper.writeValueAsBytes(query.apply(entityManager));
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private int rows(byte[] json) throws Exception {
+        JsonNode node = objectMapper.readTree(json);
+        return node.size();
+    }
+}
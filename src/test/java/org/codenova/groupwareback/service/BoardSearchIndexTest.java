@@ -0,0 +1,57 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.repository.BoardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardSearchIndexTest {
+
+    @Test
+    void tokenizesKoreanIntoBigrams() {
+        assertThat(BoardSearchIndex.tokenize("회의실 예약!")).containsExactly("회의", "의실", "예약");
+        assertThat(BoardSearchIndex.tokenize("A 팀")).containsExactly("a", "팀");
+    }
+
+    @Test
+    void ranksTitleMatchesFirst() {
+        BoardSearchIndex index = new BoardSearchIndex(null);
+        index.add(1L, "점심 메뉴", "오늘 회의실 예약은 취소되었습니다.");
+        index.add(2L, "회의실 예약 안내", "3층 회의실은 사전 예약이 필요합니다.");
+        index.add(3L, "휴가 일정", "다음 주 휴가 일정을 공유합니다.");
+
+        assertThat(index.search("회의실 예약", 0, 10)).containsExactly(2L, 1L);
+        assertThat(index.search("휴가", 0, 10)).containsExactly(3L);
+        assertThat(index.search("출장", 0, 10)).isEmpty();
+    }
+
+    @Test
+    void keepsPostsAddedWhileRebuilding() {
+        BoardRepository boardRepository = mock(BoardRepository.class);
+        BoardSearchIndex index = new BoardSearchIndex(boardRepository);
+
+        // DB를 읽는 도중 새 글(3) 등록, 이미 읽어온 글(2)도 다시 등록되는 상황
+        when(boardRepository.findSearchRowsAfter(anyLong(), any(Pageable.class))).thenAnswer((invocation) -> {
+            index.add(3L, "출장 보고서", "출장 결과 공유");
+            index.add(2L, "회의실 예약 안내", "3층 회의실");
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "점심 메뉴", "오늘 점심"});
+            rows.add(new Object[]{2L, "회의실 예약 안내", "3층 회의실"});
+            return rows;
+        });
+
+        index.rebuild();
+
+        assertThat(index.search("출장", 0, 10)).containsExactly(3L);
+        assertThat(index.search("회의실", 0, 10)).containsExactly(2L);
+        assertThat(index.getDocumentCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,57 @@
+package org.codenova.groupwareback.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoardViewCounterTest {
+
+    @Test
+    void keepsEveryViewWhileFlushingConcurrently() throws Exception {
+        AtomicLong flushed = new AtomicLong();
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer((invocation) -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach((row) -> flushed.addAndGet((Long) row[0]));
+            return new int[batch.size()];
+        });
+        BoardViewCounter counter = new BoardViewCounter(jdbcTemplate);
+
+        // 조회가 드문드문 들어와서 flush 가 항목을 자주 제거하는 상황
+        int threads = 4;
+        int views = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < views; i++) {
+                    counter.increment((long) (i % 3));
+                    if (i % 50 == 0) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        while (!done.await(1, TimeUnit.MILLISECONDS)) {
+            counter.flush();
+        }
+        counter.flush();
+        executor.shutdown();
+
+        assertThat(flushed.get()).isEqualTo((long) threads * views);
+        assertThat(counter.pending(0L)).isZero();
+    }
+}
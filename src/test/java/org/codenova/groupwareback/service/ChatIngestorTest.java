@@ -0,0 +1,179 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.codenova.groupwareback.interceptor.AuthPrincipal;
+import org.codenova.groupwareback.repository.DepartmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+    write-behind 저장 검사 (H2 내장 DB 에 직접 저장)
+    로그 기록 후 flush 로 저장되는지, 실패 후 다시 시도해도 중복 저장되지 않는지,
+    저장할 수 없는 채팅만 제외되는지, 재시작 시 로그에 남은 채팅이 복구되는지 확인
+ */
+class ChatIngestorTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong ids = new AtomicLong();
+    private final SerialAllocator serialAllocator = mock(SerialAllocator.class);
+    private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table chat (id bigint auto_increment primary key, department_id int, " +
+                "talker_id varchar(20), message varchar(1000))");
+        jdbcTemplate.execute("create table serial (id int auto_increment primary key, ref varchar(50) unique, last_number bigint)");
+
+        when(serialAllocator.next("chat")).thenAnswer((invocation) -> ids.incrementAndGet());
+        when(departmentRepository.existsById(any())).thenReturn(true);
+    }
+
+    @Test
+    void storesJournaledChatsOnFlush() throws IOException {
+        ChatIngestor ingestor = ingestor(100, "loopback");
+
+        for (int i = 1; i <= 5; i++) {
+            ingestor.post(1, principal("g-1"), "안녕하세요 " + i);
+        }
+        assertThat(count()).isZero();
+        assertThat(ingestor.pending(1)).hasSize(5);
+
+        ingestor.flush();
+
+        assertThat(count()).isEqualTo(5);
+        assertThat(ingestor.pending(1)).isEmpty();
+        assertThat(queued()).isZero();
+    }
+
+    @Test
+    void retriesFailedBatchWithoutDuplicates() throws IOException {
+        ChatIngestor ingestor = ingestor(100, "loopback");
+        for (int i = 1; i <= 3; i++) {
+            ingestor.post(1, principal("g-1"), "메시지 " + i);
+        }
+
+        // DB 를 사용할 수 없는 동안에는 대기열에 남음
+        jdbcTemplate.execute("alter table chat rename to chat_down");
+        ingestor.flush();
+        assertThat(queued()).isEqualTo(3);
+
+        // 일부는 이미 저장된 상태 (앞선 시도가 커밋 후 응답 전에 실패한 경우)
+        jdbcTemplate.execute("alter table chat_down rename to chat");
+        jdbcTemplate.update("insert into chat (id, department_id, talker_id, message) values (1, 1, 'g-1', '메시지 1')");
+        ingestor.flush();
+
+        assertThat(count()).isEqualTo(3);
+        assertThat(queued()).isZero();
+    }
+
+    @Test
+    void dropsRowsThatCanNeverBeStored() throws IOException {
+        ChatIngestor ingestor = ingestor(100, "loopback");
+        jdbcTemplate.execute("alter table chat add constraint chat_talker_check check (talker_id <> 'g-gone')");
+
+        ingestor.post(1, principal("g-1"), "첫 번째");
+        ingestor.post(1, principal("g-gone"), "저장할 수 없는 채팅");
+        ingestor.post(1, principal("g-2"), "세 번째");
+        ingestor.flush();
+
+        // 나머지는 저장되고 대기열이 막히지 않음
+        assertThat(jdbcTemplate.queryForList("select message from chat order by id", String.class))
+                .containsExactly("첫 번째", "세 번째");
+        assertThat(queued()).isZero();
+        assertThat(meterRegistry.get("chat.write-behind.dropped").counter().count()).isEqualTo(1);
+
+        ingestor.post(1, principal("g-1"), "네 번째");
+        ingestor.flush();
+        assertThat(count()).isEqualTo(3);
+    }
+
+    @Test
+    void replaysJournalAfterCrash() throws IOException {
+        ChatIngestor crashed = ingestor(100, "loopback");
+        crashed.post(1, principal("g-1"), "저장 전 종료 1");
+        crashed.post(2, principal("g-2"), "저장 전 종료 2");
+        // flush / shutdown 없이 종료된 상황
+
+        ChatIngestor restarted = ingestor(100, "loopback");
+
+        assertThat(count()).isEqualTo(2);
+        assertThat(restarted.pending(1)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidMessagesAndFullQueue() throws IOException {
+        ChatIngestor ingestor = ingestor(2, "loopback");
+
+        assertThatThrownBy(() -> ingestor.post(1, principal("g-1"), "가".repeat(ChatIngestor.MAX_MESSAGE_LENGTH + 1)))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
+        assertThatThrownBy(() -> ingestor.post(1, principal("g-1"), " "))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("400");
+
+        ingestor.post(1, principal("g-1"), "첫 번째");
+        ingestor.post(1, principal("g-1"), "두 번째");
+        assertThatThrownBy(() -> ingestor.post(1, principal("g-1"), "세 번째"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("503");
+
+        ingestor.flush();
+        ingestor.post(1, principal("g-1"), "세 번째");
+        assertThat(queued()).isEqualTo(1);
+    }
+
+    @Test
+    void refusesWriteBehindWithMultipleServers() {
+        assertThatThrownBy(() -> ingestor(100, "udp"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private ChatIngestor ingestor(int maxQueued, String relayMode) throws IOException {
+        ChatIngestor ingestor = new ChatIngestor(serialAllocator, departmentRepository, jdbcTemplate,
+                mock(EntityManager.class), new DataSourceTransactionManager(dataSource), meterRegistry,
+                "write-behind", dir, DataSize.ofMegabytes(1), "always", 100, maxQueued, relayMode);
+        ingestor.init();
+        return ingestor;
+    }
+
+    private AuthPrincipal principal(String id) {
+        return new AuthPrincipal(id, "사원" + id, 1, "사원", "Y");
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("select count(*) from chat", Integer.class);
+    }
+
+    private double queued() {
+        return meterRegistry.get("chat.write-behind.queued").gauge().value();
+    }
+}
@@ -0,0 +1,75 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.response.ChatMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaysUnflushedMessagesAfterCrash() throws IOException {
+        ChatJournal journal = new ChatJournal(dir, 1024 * 1024, ChatJournal.Fsync.ALWAYS);
+        journal.append(new ChatMessage(1L, 3, "g-1", "사원", "안녕하세요"));
+        journal.append(new ChatMessage(2L, 3, "g-2", null, "회의 10분 전입니다."));
+        // close 없이 종료된 상황
+
+        ChatJournal restarted = new ChatJournal(dir, 1024 * 1024, ChatJournal.Fsync.ALWAYS);
+        List<ChatMessage> replayed = restarted.replay();
+
+        assertThat(replayed).extracting(ChatMessage::getId).containsExactly(1L, 2L);
+        assertThat(replayed.get(0).getTalkerName()).isEqualTo("사원");
+        assertThat(replayed.get(1).getTalkerName()).isNull();
+        assertThat(replayed.get(1).getMessage()).isEqualTo("회의 10분 전입니다.");
+    }
+
+    @Test
+    void ignoresTornTailRecord() throws IOException {
+        ChatJournal journal = new ChatJournal(dir, 1024 * 1024, ChatJournal.Fsync.NEVER);
+        journal.append(new ChatMessage(1L, 1, "g-1", "사원", "첫 번째"));
+        journal.sync();
+
+        // 마지막 레코드를 쓰는 도중 종료된 상황
+        Files.write(segments().get(0), new byte[]{0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        List<ChatMessage> replayed = new ChatJournal(dir, 1024 * 1024, ChatJournal.Fsync.NEVER).replay();
+        assertThat(replayed).extracting(ChatMessage::getId).containsExactly(1L);
+    }
+
+    @Test
+    void deletesSegmentsOnceFlushed() throws IOException {
+        ChatJournal journal = new ChatJournal(dir, 256, ChatJournal.Fsync.INTERVAL);
+        List<Long> segmentNumbers = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            segmentNumbers.add(journal.append(new ChatMessage(id, 1, "g-1", "사원", "메시지 " + id)));
+        }
+        assertThat(segments()).hasSizeGreaterThan(1);
+
+        // DB 저장 완료 -> 지난 세그먼트 삭제, 정상 종료 시 현재 세그먼트도 삭제
+        for (long segment : segmentNumbers.stream().distinct().toList()) {
+            journal.acknowledge(segment, (int) segmentNumbers.stream().filter((n) -> n == segment).count());
+        }
+        assertThat(segments()).hasSize(1);
+
+        journal.close();
+        assertThat(segments()).isEmpty();
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package org.codenova.groupwareback.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.codenova.groupwareback.repository.ChatRepository;
+import org.codenova.groupwareback.repository.DepartmentRepository;
+import org.codenova.groupwareback.response.ChatMessage;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatRingBufferTest {
+
+    private final ChatRepository chatRepository = mock(ChatRepository.class);
+    private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+
+    @Test
+    void warmsOnceThenServesFromMemory() {
+        when(departmentRepository.existsById(1)).thenReturn(true);
+        when(chatRepository.findRecentMessages(eq(1), any(Pageable.class))).thenReturn(descending(1, 5));
+
+        ChatRingBuffer buffer = buffer(10, DataSize.ofKilobytes(64));
+
+        assertThat(ids(buffer.recent(1, null))).containsExactly(1L, 2L, 3L, 4L, 5L);
+
+        // 새 채팅은 DB 조회 없이 추가되고, 늦게 도착한 채팅도 순서대로 들어감
+        buffer.append(message(7));
+        buffer.append(message(6));
+        assertThat(ids(buffer.recent(1, 4L))).containsExactly(5L, 6L, 7L);
+
+        verify(chatRepository, times(1)).findRecentMessages(eq(1), any(Pageable.class));
+    }
+
+    @Test
+    void evictsOldestBeyondCapacityAndFallsBackForOldCursors() {
+        when(departmentRepository.existsById(1)).thenReturn(true);
+        when(chatRepository.findRecentMessages(eq(1), any(Pageable.class))).thenReturn(descending(1, 3));
+
+        ChatRingBuffer buffer = buffer(3, DataSize.ofKilobytes(64));
+        buffer.recent(1, null);
+        buffer.append(message(4));
+        buffer.append(message(5));
+
+        assertThat(ids(buffer.recent(1, null))).containsExactly(3L, 4L, 5L);
+        assertThat(buffer.recent(1, 3L)).hasSize(2);
+        // 보관 범위보다 이전 커서는 DB에서 조회해야 함
+        assertThat(buffer.recent(1, 1L)).isNull();
+    }
+
+    @Test
+    void capsMemoryPerDepartment() {
+        when(departmentRepository.existsById(1)).thenReturn(true);
+        when(chatRepository.findRecentMessages(eq(1), any(Pageable.class))).thenReturn(List.of());
+
+        ChatRingBuffer buffer = buffer(1_000, DataSize.ofKilobytes(8));
+        buffer.recent(1, null);
+        for (int i = 1; i <= 500; i++) {
+            buffer.append(new ChatMessage((long) i, 1, "g-1", "사원", "안녕하세요 ".repeat(20)));
+        }
+
+        assertThat(buffer.bytes(1)).isLessThanOrEqualTo(DataSize.ofKilobytes(8).toBytes());
+        assertThat(buffer.size(1)).isBetween(1, 499);
+        assertThat(ids(buffer.recent(1, null))).endsWith(500L);
+    }
+
+    @Test
+    void ignoresUnknownDepartments() {
+        when(departmentRepository.existsById(99)).thenReturn(false);
+
+        ChatRingBuffer buffer = buffer(10, DataSize.ofKilobytes(64));
+        buffer.append(new ChatMessage(1L, 99, "g-1", "사원", "메시지"));
+
+        assertThat(buffer.size(99)).isZero();
+        assertThatThrownBy(() -> buffer.recent(99, null)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    private ChatRingBuffer buffer(int capacity, DataSize maxBytes) {
+        return new ChatRingBuffer(chatRepository, departmentRepository, mock(ChatIngestor.class),
+                new SimpleMeterRegistry(), capacity, maxBytes);
+    }
+
+    private ChatMessage message(long id) {
+        return new ChatMessage(id, 1, "g-1", "사원", "메시지 " + id);
+    }
+
+    // 리포지토리처럼 최신순으로 반환
+    private List<ChatMessage> descending(long from, long to) {
+        List<ChatMessage> messages = new ArrayList<>();
+        for (long id = to; id >= from; id--) {
+            messages.add(message(id));
+        }
+        return messages;
+    }
+
+    private List<Long> ids(List<ChatMessage> messages) {
+        return messages.stream().map(ChatMessage::getId).toList();
+    }
+}
@@ -0,0 +1,159 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.load.SyntheticData;
+import org.codenova.groupwareback.load.TestData;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    사원 10만 명 내보내기 중 힙 사용량 검사
+    실제 서버(임의 포트)에 GET /api/employee/export 를 보내서 StreamingResponseBody 응답을 조금씩 읽는 동안
+    별도 스레드에서 GC 후 사용 중인 힙을 계속 기록하고, 시작 시점보다 크게 늘어나지 않는지 확인
+    (사원을 목록으로 모으거나 영속성 컨텍스트에 쌓아두거나 응답을 메모리에 만들면 사원 수에 비례해서 늘어남)
+    MySQL 스트리밍 조회(fetch size Integer.MIN_VALUE) 자체는 H2 로 검사할 수 없으므로 H2 의 LAZY_QUERY_EXECUTION 으로 대신함
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // H2 도 결과를 한 번에 만들지 않고 읽는 만큼만 계산하도록 설정
+        "spring.datasource.url=jdbc:h2:mem:employee-export;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=TRUE",
+        "management.server.port=0"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EmployeeExporterTest {
+
+    private static final int EMPLOYEES = 100_000;
+    private static final long HEAP_GROWTH_LIMIT = 32L * 1024 * 1024;
+
+    @Autowired
+    private EmployeeExporter employeeExporter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    void seed() {
+        SyntheticData data = new SyntheticData(jdbcTemplate);
+        data.departments(10);
+        data.employees(EMPLOYEES, 10, "$2a$04$abcdefghijklmnopqrstuu5Gq6dxYvqXmPvfn4XGKMvq0W6nLNmWe");
+    }
+
+    @Test
+    void heapStaysFlatWhileDownloadingAllEmployees() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employee/export?format=csv"))
+                .header("Authorization", "Bearer " + TestData.token("g-1"))
+                .GET()
+                .build();
+
+        long baseline = usedHeap();
+        List<Long> samples = new CopyOnWriteArrayList<>();
+        Thread sampler = Thread.ofPlatform().daemon().start(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                samples.add(usedHeap());
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        LineCounter counter = new LineCounter();
+        HttpResponse<InputStream> response;
+        try {
+            // 서버 조회 + 전송 전체 구간에서 측정 (응답은 조금씩 읽으면서 버림)
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                body.transferTo(counter);
+            }
+        } finally {
+            sampler.interrupt();
+            sampler.join();
+        }
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(counter.lines).isEqualTo(EMPLOYEES + 1);
+        assertThat(counter.firstLines.toString(StandardCharsets.UTF_8))
+                .startsWith("id,name,email,hireDate,departmentId,departmentName,position,active\n")
+                .contains(",부서");
+        assertThat(samples).isNotEmpty();
+        for (long sample : samples) {
+            assertThat(sample - baseline)
+                    .as("내보내기 중 힙 증가량 (시작 %d bytes, 측정값 %s)", baseline, samples)
+                    .isLessThan(HEAP_GROWTH_LIMIT);
+        }
+    }
+
+    @Test
+    void requiresLogin() throws Exception {
+        HttpResponse<Void> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/employee/export")).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    void writesOneJsonObjectPerLine() throws Exception {
+        LineCounter counter = new LineCounter();
+
+        employeeExporter.export(false, counter);
+
+        assertThat(counter.lines).isEqualTo(EMPLOYEES);
+        assertThat(counter.firstLines.toString(StandardCharsets.UTF_8))
+                .startsWith("{\"id\":\"g-1\",")
+                .doesNotContain("password");
+    }
+
+    @Test
+    void quotesCsvValuesOnlyWhenNeeded() {
+        assertThat(EmployeeExporter.csvValue("김사원")).isEqualTo("김사원");
+        assertThat(EmployeeExporter.csvValue("이, 팀장")).isEqualTo("\"이, 팀장\"");
+        assertThat(EmployeeExporter.csvValue("\"팀장\"")).isEqualTo("\"\"\"팀장\"\"\"");
+        assertThat(EmployeeExporter.csvValue(null)).isEmpty();
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 받은 내용은 처음 몇 줄만 보관하고 버리면서 줄 수만 셈
+    private static class LineCounter extends OutputStream {
+        private final ByteArrayOutputStream firstLines = new ByteArrayOutputStream();
+        private int lines;
+
+        @Override
+        public void write(int b) {
+            if (lines < 2) {
+                firstLines.write(b);
+            }
+            if (b == '\n') {
+                lines++;
+            }
+        }
+    }
+}
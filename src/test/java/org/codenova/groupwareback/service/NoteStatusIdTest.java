@@ -0,0 +1,82 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.entity.Employee;
+import org.codenova.groupwareback.entity.Note;
+import org.codenova.groupwareback.load.SyntheticData;
+import org.codenova.groupwareback.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+    기존 수신 상태가 있는 DB 에서 JPA 로 수신 상태를 저장했을 때 번호가 겹치지 않는지 검사
+    (serial.last_number 는 SyntheticData / 002 마이그레이션과 같이 max(id) 로 맞춰 둔 상태)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:note-status-id;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NoteStatusIdTest {
+
+    private static final int EMPLOYEES = 10;
+
+    @Autowired
+    private NoteFanoutService noteFanoutService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long existingMaxId;
+
+    @BeforeAll
+    void seed() {
+        SyntheticData data = new SyntheticData(jdbcTemplate);
+        data.departments(2);
+        data.employees(EMPLOYEES, 2, "$2a$04$abcdefghijklmnopqrstuu5Gq6dxYvqXmPvfn4XGKMvq0W6nLNmWe");
+        data.notes(250, 3, EMPLOYEES);
+        existingMaxId = jdbcTemplate.queryForObject("select max(id) from note_status", Long.class);
+    }
+
+    @Test
+    void continuesAfterExistingIds() {
+        List<String> receivers = List.of("g-1", "g-2", "g-3", "g-4", "g-5");
+
+        // 할당 구간(100)을 넘도록 여러 번 저장
+        for (int i = 0; i < 30; i++) {
+            noteFanoutService.send(note(), receivers);
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(
+                "select id from note_status where id > ? order by id", Long.class, existingMaxId);
+        assertThat(ids).hasSize(30 * receivers.size());
+        assertThat(ids.get(0)).isEqualTo(existingMaxId + 1);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from note_status", Long.class))
+                .isEqualTo(existingMaxId + 30 * receivers.size());
+        // 저장된 값은 발급한 마지막 구간의 끝 (다음 구간과 겹치지 않음)
+        assertThat(jdbcTemplate.queryForObject("select last_number from serial where ref = 'note_status'", Long.class))
+                .isGreaterThanOrEqualTo(ids.get(ids.size() - 1));
+    }
+
+    private Note note() {
+        Employee sender = employeeRepository.findById("g-" + EMPLOYEES).orElseThrow();
+        return Note.builder()
+                .sender(sender)
+                .content("번호 확인")
+                .sendAt(LocalDateTime.now())
+                .isDelete(false)
+                .build();
+    }
+}
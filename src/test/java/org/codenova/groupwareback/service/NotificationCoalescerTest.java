@@ -0,0 +1,44 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.config.CoalesceProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class NotificationCoalescerTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    @Test
+    void coalescesEachEventTypeSeparately() {
+        NotificationCoalescer coalescer = new NotificationCoalescer(messagingTemplate, properties());
+
+        // 같은 개인 채널로 종류가 다른 알림이 섞여서 들어오는 상황
+        coalescer.submit("/private/g-1", "note.read", "g-2가 쪽지를 확인하였습니다.", (count) -> "보낸 쪽지 " + count + "건이 확인되었습니다.");
+        coalescer.submit("/private/g-1", "board.created", "새 글이 등록되었습니다.", (count) -> "새 글 " + count + "건이 등록되었습니다.");
+        coalescer.submit("/private/g-1", "note.read", "g-3가 쪽지를 확인하였습니다.", (count) -> "보낸 쪽지 " + count + "건이 확인되었습니다.");
+
+        coalescer.flush();
+
+        verify(messagingTemplate).convertAndSend("/private/g-1", (Object) "보낸 쪽지 2건이 확인되었습니다.");
+        verify(messagingTemplate).convertAndSend("/private/g-1", (Object) "새 글이 등록되었습니다.");
+        verify(messagingTemplate, times(2)).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private CoalesceProperties properties() {
+        CoalesceProperties.Rule rule = new CoalesceProperties.Rule();
+        rule.setPrefix("/private/");
+        rule.setWindow(Duration.ZERO);  // flush 시점에 바로 전송
+
+        CoalesceProperties properties = new CoalesceProperties();
+        properties.getRules().put("private", rule);
+        return properties;
+    }
+}
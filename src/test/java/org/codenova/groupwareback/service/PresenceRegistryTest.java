@@ -0,0 +1,81 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.interceptor.AuthInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PresenceRegistryTest {
+
+    private final AuthInterceptor authInterceptor = mock(AuthInterceptor.class);
+    private final PresenceRegistry registry = new PresenceRegistry(authInterceptor, mock(SimpMessagingTemplate.class));
+
+    @Test
+    void countsOnlyAuthenticatedConnects() {
+        when(authInterceptor.resolveSubject("valid")).thenReturn("g-1");
+
+        // 토큰이 없거나 확인되지 않는 연결은 접속자로 등록되지 않음 (개인 채널 구독 여부와 무관)
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s-1", null, null)));
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s-3", "Bearer forged", null)));
+        assertThat(registry.snapshot()).isEmpty();
+
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "s-2", "Bearer valid", null)));
+        assertThat(registry.snapshot()).containsExactly("g-1");
+    }
+
+    @Test
+    void keepsEmployeeOnlineWhileAnySessionIsOpen() throws Exception {
+        when(authInterceptor.resolveSubject("valid")).thenReturn("g-1");
+
+        // 같은 사원이 접속/종료를 동시에 반복 (마지막 세션 하나는 유지)
+        registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, "keep", "Bearer valid", null)));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    String sessionId = thread + "-" + i;
+                    registry.onConnect(new SessionConnectEvent(this, frame(StompCommand.CONNECT, sessionId, "Bearer valid", null)));
+                    registry.onDisconnect(new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, sessionId, null, null),
+                            sessionId, CloseStatus.NORMAL));
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        assertThat(registry.snapshot()).containsExactly("g-1");
+        registry.onDisconnect(new SessionDisconnectEvent(this, frame(StompCommand.DISCONNECT, "keep", null, null),
+                "keep", CloseStatus.NORMAL));
+        assertThat(registry.snapshot()).isEmpty();
+    }
+
+    private Message<byte[]> frame(StompCommand command, String sessionId, String authorization, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (authorization != null) {
+            accessor.addNativeHeader("Authorization", authorization);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,69 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.entity.Serial;
+import org.codenova.groupwareback.repository.SerialRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SerialAllocatorTest {
+
+    @Test
+    void parallelHiresGetUniqueIds() throws Exception {
+        // DB 대신 메모리의 serial 행 사용 (구간 예약 횟수 기록)
+        Serial serial = Serial.builder().id(1).ref("employee").lastNumber(0L).build();
+        AtomicInteger reservations = new AtomicInteger();
+
+        SerialRepository serialRepository = mock(SerialRepository.class);
+        when(serialRepository.findWithLockByRef("employee")).thenAnswer((invocation) -> {
+            reservations.incrementAndGet();
+            return Optional.of(serial);
+        });
+        when(serialRepository.save(any(Serial.class))).thenAnswer((invocation) -> invocation.getArgument(0));
+
+        SerialAllocator allocator = new SerialAllocator(serialRepository, mock(PlatformTransactionManager.class), 50);
+
+        int threads = 32;
+        int hiresPerThread = 2_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < hiresPerThread; i++) {
+                        ids.add("g-" + allocator.next("employee"));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        int total = threads * hiresPerThread;
+
+        // 모든 번호가 중복 없이 발급되고, 구간 단위로만 serial 행을 잠금
+        assertThat(ids).hasSize(total);
+        assertThat(serial.getLastNumber()).isEqualTo(total);
+        assertThat(reservations.get()).isEqualTo(total / 50);
+    }
+}
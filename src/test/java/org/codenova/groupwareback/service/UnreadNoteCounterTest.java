@@ -0,0 +1,62 @@
+package org.codenova.groupwareback.service;
+
+import org.codenova.groupwareback.repository.NoteStatusRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/*
+    읽지 않은 쪽지 수 보정 검사
+    DB 기준 값으로 맞추되, DB 조회 중에 증감된 사원은 조회 결과가 지난 값일 수 있으므로 덮어쓰지 않는지 확인
+ */
+class UnreadNoteCounterTest {
+
+    private final NoteStatusRepository noteStatusRepository = mock(NoteStatusRepository.class);
+    private final NotificationDispatcher notificationDispatcher = mock(NotificationDispatcher.class);
+    private final UnreadNoteCounter counter = new UnreadNoteCounter(
+            noteStatusRepository, notificationDispatcher, mock(SimpMessagingTemplate.class));
+
+    private final List<Object> dispatched = new ArrayList<>();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void keepsCountersChangedDuringResync() {
+        doAnswer((invocation) -> {
+            List<Object> targets = invocation.getArgument(0);
+            dispatched.addAll(targets);
+            targets.forEach(invocation.getArgument(1, Consumer.class));
+            return null;
+        }).when(notificationDispatcher).dispatch(any(), any());
+
+        when(noteStatusRepository.countUnreadGroupByReceiver())
+                .thenReturn(List.of(row("g-1", 3), row("g-2", 5)));
+        counter.rebuild();
+
+        // 다른 서버에서 처리된 변경 (g-1 은 1건 읽음, g-3 은 새 쪽지 2건)
+        // DB 조회가 끝나기 전에 이 서버에서 g-2 가 쪽지 1건을 읽음 (조회 결과에는 반영되지 않은 상태)
+        when(noteStatusRepository.countUnreadGroupByReceiver()).thenAnswer((invocation) -> {
+            counter.decrement("g-2");
+            return List.of(row("g-1", 2), row("g-2", 5), row("g-3", 2));
+        });
+        dispatched.clear();
+        counter.resync();
+
+        assertThat(counter.get("g-1")).isEqualTo(2);
+        assertThat(counter.get("g-2")).isEqualTo(4);
+        assertThat(counter.get("g-3")).isEqualTo(2);
+        assertThat(dispatched).containsExactlyInAnyOrder("g-1", "g-3");
+    }
+
+    private static Object[] row(String receiverId, long count) {
+        return new Object[]{receiverId, count};
+    }
+}
@@ -0,0 +1,59 @@
+create table department (
+    id int auto_increment primary key,
+    name varchar(100)
+);
+
+create table employee (
+    id varchar(20) primary key,
+    password varchar(100),
+    name varchar(100),
+    email varchar(200),
+    hire_date date,
+    department_id int,
+    position varchar(50),
+    active varchar(1)
+);
+
+create table board (
+    id bigint auto_increment primary key,
+    writer_id varchar(20),
+    title varchar(255),
+    content text,
+    view_count int,
+    wrote_at timestamp
+);
+
+create table chat (
+    id bigint auto_increment primary key,
+    department_id int,
+    talker_id varchar(20),
+    message varchar(1000)
+);
+create index idx_chat_department_id on chat (department_id, id);
+
+create table note (
+    id bigint auto_increment primary key,
+    sender_id varchar(20),
+    content text,
+    send_at timestamp,
+    is_delete boolean
+);
+create index idx_note_sender_id on note (sender_id);
+
+create table note_status (
+    id bigint primary key,
+    receiver_id varchar(20),
+    note_id bigint,
+    is_read boolean,
+    read_at timestamp,
+    is_delete boolean
+);
+create index idx_note_status_receiver_id on note_status (receiver_id);
+create index idx_note_status_note_id on note_status (note_id);
+
+create table serial (
+    id int auto_increment primary key,
+    ref varchar(50) unique,
+    last_number bigint
+);
+insert into serial (ref, last_number) values ('employee', 0), ('note_status', 0), ('chat', 0);